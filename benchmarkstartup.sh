@@ -0,0 +1,65 @@
+#!/bin/bash
+#
+# Startup benchmark: launches the packaged service repeatedly for a worker role and reports
+# time-to-first-poll as logged by FirstPollRecorder. Needs a reachable Temporal server.
+# Roles that start no workers (api-only) have nothing to measure and fail.
+#
+#   ./benchmarkstartup.sh [role] [runs] [plain|fast]
+#
+#   role  - all (default), priority-worker, fairness-worker
+#   runs  - number of launches to average (default 5)
+#   mode  - plain: target/<jar> (./mvnw package)
+#           fast:  AOT + CDS build (./mvnw -Pfast-startup package)
+#
+ROLE=${1:-all}
+RUNS=${2:-5}
+MODE=${3:-plain}
+JAR_NAME=priority-service-0.0.1-SNAPSHOT.jar
+
+if [ "${MODE}" = "fast" ]
+then
+	JAR=target/extracted/${JAR_NAME}
+	JAVA_OPTS="-XX:SharedArchiveFile=target/extracted/application.jsa -Dspring.aot.enabled=true"
+else
+	JAR=target/${JAR_NAME}
+	JAVA_OPTS=""
+fi
+
+if [ ! -f "${JAR}" ]
+then
+	echo "${JAR} not found. Build it first (see usage at the top of this script)."
+	exit 1
+fi
+
+TOTAL=0
+for RUN in $(seq 1 ${RUNS})
+do
+	LOG=$(mktemp)
+	java ${JAVA_OPTS} -jar ${JAR} --demo.role=${ROLE} --server.port=0 > ${LOG} 2>&1 &
+	PID=$!
+	# Wait up to 60s for the first poll, or for WorkerStarter to say it started no workers.
+	for i in $(seq 1 600)
+	do
+		grep -q "time-to-first-poll\|Workers not started for role" ${LOG} && break
+		sleep 0.1
+	done
+	kill ${PID} 2>/dev/null
+	wait ${PID} 2>/dev/null
+
+	MILLIS=$(sed -n 's/.*time-to-first-poll \([0-9][0-9]*\)ms.*/\1/p' ${LOG} | head -1)
+	if grep -q "Workers not started for role" ${LOG}
+	then
+		echo "Run ${RUN}: role [${ROLE}] starts no workers, nothing to measure."
+		rm -f ${LOG}
+		exit 1
+	fi
+	rm -f ${LOG}
+	if [ -z "${MILLIS}" ]
+	then
+		echo "Run ${RUN}: no time-to-first-poll line logged, giving up."
+		exit 1
+	fi
+	echo "Run ${RUN}: ${MILLIS}ms"
+	TOTAL=$((TOTAL + MILLIS))
+done
+echo "Role [${ROLE}] mode [${MODE}]: average time-to-first-poll $((TOTAL / RUNS))ms over ${RUNS} runs"
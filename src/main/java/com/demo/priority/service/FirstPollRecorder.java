@@ -0,0 +1,70 @@
+package com.demo.priority.service;
+
+import com.demo.priority.service.config.DemoProperties;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc;
+import io.temporal.serviceclient.WorkflowServiceStubsOptions;
+import io.temporal.spring.boot.TemporalOptionsCustomizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records time-to-first-poll: JVM uptime when the first PollWorkflowTaskQueue or
+ * PollActivityTaskQueue RPC is issued. Pollers send it from their own threads some time after
+ * WorkerFactory.start() returns, so it is measured on the gRPC channel rather than in WorkerStarter.
+ *
+ * Logged once as time-to-first-poll (benchmarkstartup.sh greps for it) and published as the
+ * demo.startup.first.poll gauge.
+ */
+@Component
+public class FirstPollRecorder implements TemporalOptionsCustomizer<WorkflowServiceStubsOptions.Builder>, ClientInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(FirstPollRecorder.class);
+    private static final Set<String> POLL_METHODS = Set.of(
+            WorkflowServiceGrpc.getPollWorkflowTaskQueueMethod().getFullMethodName(),
+            WorkflowServiceGrpc.getPollActivityTaskQueueMethod().getFullMethodName());
+
+    private final DemoProperties properties;
+    private final MeterRegistry registry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private volatile long firstPollMillis = -1;
+
+    public FirstPollRecorder(DemoProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    public WorkflowServiceStubsOptions.Builder customize(WorkflowServiceStubsOptions.Builder builder) {
+        return builder.addGrpcClientInterceptor(this);
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        if (!recorded.get() && POLL_METHODS.contains(method.getFullMethodName()) && recorded.compareAndSet(false, true)) {
+            firstPollMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            TimeGauge.builder("demo.startup.first.poll", this, TimeUnit.MILLISECONDS, r -> r.firstPollMillis)
+                    .tag("role", properties.role())
+                    .register(registry);
+            logger.info("First poll for role [{}] ({}): time-to-first-poll {}ms",
+                    properties.role(), method.getBareMethodName(), firstPollMillis);
+        }
+        return next.newCall(method, callOptions);
+    }
+
+    long getFirstPollMillis() {
+        return firstPollMillis;
+    }
+}
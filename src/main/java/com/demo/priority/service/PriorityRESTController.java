@@ -1,7 +1,16 @@
 package com.demo.priority.service;
+import com.demo.priority.service.config.DemoProperties;
 import com.demo.priority.service.model.*;
+import com.demo.priority.service.runs.RunComparator;
+import com.demo.priority.service.runs.RunStore;
+import com.demo.priority.service.simulator.DispatchSimulator;
 import com.demo.priority.service.workflows.PriorityWorkflow;
 import com.demo.priority.service.workflows.FairnessWorkflow;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
 import io.temporal.api.common.v1.WorkflowExecution;
 import io.temporal.client.WorkflowClient;
 
@@ -15,12 +24,10 @@ import io.temporal.client.WorkflowExecutionMetadata;
 import io.temporal.client.WorkflowOptions;
 import io.temporal.common.SearchAttributeKey;
 import io.temporal.common.SearchAttributes;
-import io.temporal.spring.boot.autoconfigure.properties.TemporalProperties;
-import io.temporal.spring.boot.autoconfigure.properties.WorkerProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,17 +38,31 @@ import static io.temporal.client.WorkflowOptions.*;
 @RestController
 public class PriorityRESTController {
     private static final Logger logger = LoggerFactory.getLogger(PriorityRESTController.class);
-    private ApplicationContext ctx;
-    private String workflowTaskQueueName;
+    private final String workflowTaskQueueName;
+    private final String fairnessTaskQueueName;
+    private final DemoProperties.Workflow workflowProperties;
+    private final Tracer tracer;
 
     @Autowired
     WorkflowClient client;
 
+    @Autowired
+    RunStore runStore;
+
 
+    /**
+     * Task queue names come from demo.task-queues rather than the worker list, so an
+     * api-only node (which has no workers configured) can still start workflows.
+     */
     @Autowired
-    public PriorityRESTController(ApplicationContext applicationContext) {
-        this.ctx = applicationContext;
-        workflowTaskQueueName = this.getWorkflowTaskQueueName();
+    public PriorityRESTController(@Value("${demo.task-queues.priority-workflow}") String workflowTaskQueueName,
+                                  @Value("${demo.task-queues.fairness}") String fairnessTaskQueueName,
+                                  DemoProperties demoProperties,
+                                  OpenTelemetry openTelemetry) {
+        this.workflowTaskQueueName = workflowTaskQueueName;
+        this.fairnessTaskQueueName = fairnessTaskQueueName;
+        this.workflowProperties = demoProperties.workflow();
+        this.tracer = openTelemetry.getTracer(PriorityRESTController.class.getName());
     }
     /**
      *
@@ -55,6 +76,20 @@ public class PriorityRESTController {
      */
     @PostMapping("start-workflows")
     public String startWorkflows(@RequestBody WorkflowConfig wfConfig) {
+        // Parent span for the whole request; every StartWorkflow span below is a child of it.
+        Span span = tracer.spanBuilder("start-workflows").setSpanKind(SpanKind.SERVER).startSpan();
+        if (wfConfig != null) {
+            span.setAttribute("demo.run.prefix", String.valueOf(wfConfig.getWorkflowIdPrefix()));
+            span.setAttribute("demo.mode", String.valueOf(wfConfig.getMode()));
+        }
+        try (Scope ignored = span.makeCurrent()) {
+            return this.startAllWorkflows(wfConfig);
+        } finally {
+            span.end();
+        }
+    } // End startWorkflows
+
+    private String startAllWorkflows(WorkflowConfig wfConfig) {
         if (wfConfig == null) { wfConfig = new WorkflowConfig();
             wfConfig.setNumberOfWorkflows(100);
             wfConfig.setWorkflowIdPrefix("Testing");
@@ -62,6 +97,7 @@ public class PriorityRESTController {
         LocalDateTime startTime = this.getTargetWFStartTime(wfConfig.getNumberOfWorkflows());
 
         String mode = (wfConfig.getMode() == null) ? "priority" : wfConfig.getMode().trim().toLowerCase();
+        runStore.recordStart(wfConfig, mode.equals("fairness") ? "fairness" : "priority");
         if (!mode.equals("fairness")) {
             // Priority mode (default)
             for (int workflowNum = 1; workflowNum <  wfConfig.getNumberOfWorkflows() + 1; workflowNum++){
@@ -91,11 +127,7 @@ public class PriorityRESTController {
             // Fairness mode
             java.util.List<Band> bands = wfConfig.getBands();
             if (bands == null || bands.isEmpty()) {
-                bands = new java.util.ArrayList<>();
-                Band b1 = new Band(); b1.setKey("first-class");    b1.setWeight(15);
-                Band b2 = new Band(); b2.setKey("business-class");  b2.setWeight(5);
-                Band b3 = new Band(); b3.setKey("economy-class");   b3.setWeight(1);
-                bands.add(b1); bands.add(b2); bands.add(b3);
+                bands = Band.defaultBands();
             }
 
             // Determine if explicit counts were provided; if so, use them.
@@ -137,7 +169,7 @@ public class PriorityRESTController {
                     FairnessWorkflow workflow = client.newWorkflowStub(
                             FairnessWorkflow.class,
                             WorkflowOptions.newBuilder()
-                                    .setTaskQueue("fairness-queue")
+                                    .setTaskQueue(fairnessTaskQueueName)
                                     .setWorkflowId(wfConfig.getWorkflowIdPrefix() + "-" + workflowNum)
                                     .setStartDelay(this.getStartDelay(startTime))
                                     .setTypedSearchAttributes(searchAttribs)
@@ -166,7 +198,7 @@ public class PriorityRESTController {
                     FairnessWorkflow workflow = client.newWorkflowStub(
                             FairnessWorkflow.class,
                             WorkflowOptions.newBuilder()
-                                    .setTaskQueue("fairness-queue")
+                                    .setTaskQueue(fairnessTaskQueueName)
                                     .setWorkflowId(wfConfig.getWorkflowIdPrefix() + "-" + workflowNum)
                                     .setStartDelay(this.getStartDelay(startTime))
                                     .setTypedSearchAttributes(searchAttribs)
@@ -178,7 +210,7 @@ public class PriorityRESTController {
             }
         }
         return "Done";
-    } // End startWorkflows
+    } // End startAllWorkflows
 
 
     @GetMapping("run-status")
@@ -189,6 +221,7 @@ public class PriorityRESTController {
         int numberWFInTest = wfList.size();
         PriorityTestRunResults results = new PriorityTestRunResults(wfList);
         logger.debug("There are [{}] in the test", numberWFInTest);
+        runStore.recordProgress(runPrefix, "priority", wfList);
 
         return ResponseEntity.of(Optional.of(results));
     }   // End getRunStatus
@@ -198,9 +231,78 @@ public class PriorityRESTController {
         Stream<WorkflowExecutionMetadata> workflowMetadata = client.listExecutions("WorkflowId STARTS_WITH \"" + runPrefix + "\"");
         List<WorkflowExecutionMetadata> wfList = (List<WorkflowExecutionMetadata>)workflowMetadata.toList();
         FairnessTestRunResults results = new FairnessTestRunResults(wfList);
+        runStore.recordProgress(runPrefix, "fairness", wfList);
         return ResponseEntity.of(Optional.of(results));
     }
 
+    @GetMapping("runs")
+    public ResponseEntity<List<RunSummary>> getRuns() {
+        return ResponseEntity.of(Optional.of(runStore.findAll()));
+    }
+
+    /**
+     *
+     * @param runPrefix two or more finished runs; the first is the baseline
+     * @return one RunComparison per later run
+     *
+     *  Summaries are only written once a run has finished and its status has been polled
+     *  (run-status or run-status-fairness), so poll a run to completion before comparing it.
+     *
+     */
+    @GetMapping("compare-runs")
+    public ResponseEntity<List<RunComparison>> compareRuns(@RequestParam(required = true) List<String> runPrefix) {
+        if (runPrefix.size() < 2) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<RunSummary> summaries = new java.util.ArrayList<>();
+        for (String prefix : runPrefix) {
+            Optional<RunSummary> summary = runStore.find(prefix).filter(RunSummary::isCompleted);
+            if (summary.isEmpty()) {
+                logger.debug("No finished run summary for {}", prefix);
+                return ResponseEntity.notFound().build();
+            }
+            summaries.add(summary.get());
+        }
+        List<RunComparison> comparisons = new java.util.ArrayList<>();
+        for (RunSummary candidate : summaries.subList(1, summaries.size())) {
+            comparisons.add(RunComparator.compare(summaries.get(0), candidate));
+        }
+        return ResponseEntity.of(Optional.of(comparisons));
+    }   // End compareRuns
+
+    /**
+     *
+     * @param wfConfig same body as start-workflows
+     * @return SimulationResults holding PriorityTestRunResults or FairnessTestRunResults samples
+     *
+     *  Runs the config through the offline dispatch simulator instead of Temporal, so the
+     *  expected progress curve can be compared with the observed one. Nothing is started.
+     *  Executor slots default to demo.workflow.activity-executors and each workflow runs
+     *  demo.workflow.activities-per-workflow activities, matching the real workers.
+     *
+     */
+    @PostMapping("simulate-workflows")
+    public ResponseEntity<SimulationResults<?>> simulateWorkflows(
+            @RequestBody WorkflowConfig wfConfig,
+            @RequestParam(required = false) Integer executors,
+            @RequestParam(defaultValue = "" + DispatchSimulator.DEFAULT_ACTIVITY_MILLIS) long activityMillis,
+            @RequestParam(defaultValue = "" + DispatchSimulator.DEFAULT_SAMPLE_MILLIS) long sampleMillis,
+            @RequestParam(defaultValue = "0") long seed) {
+        DispatchSimulator simulator;
+        try {
+            simulator = new DispatchSimulator(
+                    executors == null ? workflowProperties.activityExecutors() : executors,
+                    workflowProperties.activitiesPerWorkflow(), activityMillis, sampleMillis, seed);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+        String mode = (wfConfig.getMode() == null) ? "priority" : wfConfig.getMode().trim().toLowerCase();
+        SimulationResults<?> results = mode.equals("fairness")
+                ? simulator.simulateFairness(wfConfig)
+                : simulator.simulatePriority(wfConfig);
+        logger.debug("Simulated {} tasks in {}ms of simulated time", results.getTasksDispatched(), results.getSimulatedDurationMillis());
+        return ResponseEntity.of(Optional.of(results));
+    }   // End simulateWorkflows
 
     private Duration getStartDelay(LocalDateTime pTargetStart)
     {
@@ -228,13 +330,4 @@ public class PriorityRESTController {
         return currentTime.plusSeconds(secsToStartAll);
     }
 
-    private String getWorkflowTaskQueueName()
-    {
-        // Parse the config to pick out the task queue for the activity. (Will be simpler once issue #1647 implemented)
-        TemporalProperties props = ctx.getBean(TemporalProperties.class);
-        Optional<WorkerProperties> wp =
-                props.getWorkers().stream().filter(w -> w.getName().equals("PriorityWorkflow")).findFirst();
-        return wp.get().getTaskQueue();
-    }
-
 }
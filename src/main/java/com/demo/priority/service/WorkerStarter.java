@@ -0,0 +1,48 @@
+package com.demo.priority.service;
+
+import com.demo.priority.service.config.DemoProperties;
+import io.temporal.worker.WorkerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Starts the Temporal workers once the application is ready, unless demo.start-workers is false.
+ *
+ * The starter's own WorkerFactoryStarter is switched off (spring.temporal.start-workers: false)
+ * because its condition is evaluated at build time under Spring AOT, which would make every
+ * role start workers. This check runs at startup, so it holds for AOT/CDS builds too.
+ *
+ * This is not time-to-first-poll: pollers send their first requests asynchronously after
+ * start() returns. FirstPollRecorder measures that on the gRPC channel.
+ */
+@Component
+public class WorkerStarter {
+    private static final Logger logger = LoggerFactory.getLogger(WorkerStarter.class);
+
+    private final DemoProperties properties;
+    private final ObjectProvider<WorkerFactory> workerFactory;
+
+    public WorkerStarter(DemoProperties properties, ObjectProvider<WorkerFactory> workerFactory) {
+        this.properties = properties;
+        this.workerFactory = workerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        // No factory when the starter found no workers configured.
+        WorkerFactory factory = workerFactory.getIfAvailable();
+        if (!properties.startWorkers() || factory == null) {
+            logger.info("Workers not started for role [{}] (demo.start-workers={}), ready in {}ms",
+                    properties.role(), properties.startWorkers(), ManagementFactory.getRuntimeMXBean().getUptime());
+            return;
+        }
+        factory.start();
+        logger.info("Workers started for role [{}] at {}ms", properties.role(), ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+}
@@ -0,0 +1,52 @@
+package com.demo.priority.service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Binds the demo.* block of application.yaml.
+ */
+@ConfigurationProperties("demo")
+public record DemoProperties(
+        @DefaultValue("all") String role,
+        // Read at startup by WorkerStarter; false for the api-only role.
+        @DefaultValue("true") boolean startWorkers,
+        @DefaultValue TaskQueues taskQueues,
+        @DefaultValue Workflow workflow,
+        @DefaultValue Tracing tracing) {
+
+    public static final List<String> ROLES = List.of("all", "api-only", "priority-worker", "fairness-worker");
+
+    public DemoProperties {
+        // The role also names the profile that trims the worker list, so an unknown one would
+        // quietly fall back to running every worker.
+        if (!ROLES.contains(role)) {
+            throw new IllegalArgumentException("demo.role must be one of " + ROLES + ", was " + role);
+        }
+    }
+
+    public record TaskQueues(
+            @DefaultValue("PriorityWorkflowTQ") String priorityWorkflow,
+            @DefaultValue("PriorityActivityTQ") String priorityActivity,
+            @DefaultValue("fairness-queue") String fairness) {
+    }
+
+    public record Workflow(
+            @DefaultValue("5s") Duration activityStartToCloseTimeout,
+            @DefaultValue("5") int activitiesPerWorkflow,
+            // Activity executor slots per activity worker; also the simulator's default.
+            @DefaultValue("5") int activityExecutors,
+            // Used when a priority workflow is started without a priority (1..5).
+            @DefaultValue("3") int defaultPriority) {
+    }
+
+    public record Tracing(
+            // none, otlp, logging or file.
+            @DefaultValue("none") String exporter,
+            @DefaultValue("http://localhost:4317") String otlpEndpoint,
+            @DefaultValue("./traces.jsonl") String file) {
+    }
+}
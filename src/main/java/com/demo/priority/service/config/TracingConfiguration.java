@@ -0,0 +1,112 @@
+package com.demo.priority.service.config;
+
+import com.demo.priority.service.tracing.BandAttributesClientInterceptor;
+import com.demo.priority.service.tracing.BandAttributesWorkerInterceptor;
+import com.demo.priority.service.tracing.FileSpanExporter;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.temporal.client.WorkflowClientOptions;
+import io.temporal.common.interceptors.WorkerInterceptor;
+import io.temporal.common.interceptors.WorkflowClientInterceptor;
+import io.temporal.spring.boot.TemporalOptionsCustomizer;
+import io.temporal.worker.WorkerFactoryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * OpenTelemetry tracing for the REST API, workflows and activities.
+ *
+ * The Temporal starter's OpenTracingAutoConfiguration wraps the OpenTelemetry bean built here
+ * in an OpenTracing shim and installs its client and worker interceptors, which create and
+ * propagate the StartWorkflow, RunWorkflow, StartActivity and RunActivity spans. The
+ * customizers add the band-attribute interceptors inside those.
+ *
+ * demo.tracing.exporter picks where spans go: none (default, no-op SDK), otlp, logging or file.
+ */
+@Configuration
+public class TracingConfiguration {
+    private static final Logger logger = LoggerFactory.getLogger(TracingConfiguration.class);
+
+    @Bean
+    public OpenTelemetry openTelemetry(DemoProperties properties,
+                                       @Value("${spring.application.name}") String serviceName) {
+        DemoProperties.Tracing tracing = properties.tracing();
+        SpanExporter exporter = switch (tracing.exporter().trim().toLowerCase()) {
+            case "otlp" -> OtlpGrpcSpanExporter.builder().setEndpoint(tracing.otlpEndpoint()).build();
+            case "logging" -> LoggingSpanExporter.create();
+            case "file" -> fileExporter(tracing.file());
+            case "none" -> null;
+            default -> throw new IllegalArgumentException(
+                    "demo.tracing.exporter must be none, otlp, logging or file, was " + tracing.exporter());
+        };
+        if (exporter == null) {
+            return OpenTelemetry.noop();
+        }
+        logger.info("Tracing enabled, exporting spans via [{}]", tracing.exporter());
+
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .setResource(Resource.getDefault().merge(Resource.create(
+                        Attributes.of(AttributeKey.stringKey("service.name"), serviceName,
+                                      AttributeKey.stringKey("demo.role"), properties.role()))))
+                .addSpanProcessor(BatchSpanProcessor.builder(exporter).build())
+                .build();
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+    }
+
+    /**
+     * Interceptors earlier in the list are wrapped by later ones, so prepending keeps ours
+     * inside the starter's OpenTracing interceptor, where its span is current.
+     */
+    @Bean
+    public TemporalOptionsCustomizer<WorkerFactoryOptions.Builder> tracingWorkerFactoryCustomizer() {
+        return builder -> {
+            List<WorkerInterceptor> interceptors = new ArrayList<>();
+            interceptors.add(new BandAttributesWorkerInterceptor());
+            WorkerInterceptor[] existing = builder.build().getWorkerInterceptors();
+            if (existing != null) interceptors.addAll(Arrays.asList(existing));
+            return builder.setWorkerInterceptors(interceptors.toArray(new WorkerInterceptor[0]));
+        };
+    }
+
+    @Bean
+    public TemporalOptionsCustomizer<WorkflowClientOptions.Builder> tracingClientCustomizer() {
+        return builder -> {
+            List<WorkflowClientInterceptor> interceptors = new ArrayList<>();
+            interceptors.add(new BandAttributesClientInterceptor());
+            WorkflowClientInterceptor[] existing = builder.build().getInterceptors();
+            if (existing != null) interceptors.addAll(Arrays.asList(existing));
+            return builder.setInterceptors(interceptors.toArray(new WorkflowClientInterceptor[0]));
+        };
+    }
+
+    private static SpanExporter fileExporter(String file) {
+        try {
+            return new FileSpanExporter(Paths.get(file));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to open trace file " + file, ex);
+        }
+    }
+}
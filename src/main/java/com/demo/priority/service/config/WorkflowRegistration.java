@@ -0,0 +1,55 @@
+package com.demo.priority.service.config;
+
+import com.demo.priority.service.workflows.FairnessWorkflow;
+import com.demo.priority.service.workflows.FairnessWorkflowImpl;
+import com.demo.priority.service.workflows.PriorityWorkflow;
+import com.demo.priority.service.workflows.PriorityWorkflowImpl;
+import com.demo.priority.service.workflows.WorkflowSettings;
+import io.temporal.worker.Worker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+
+/**
+ * Registers the workflow implementations as factories so they receive a shared
+ * {@link WorkflowSettings} instead of looking configuration up per execution.
+ *
+ * The workers themselves are still declared in application.yaml (without workflow-classes);
+ * this only adds the workflow types to whichever of them this node's role created. Workers are
+ * matched on the starter's temporalWorkers collection because WorkerFactory.getWorker throws
+ * for a task queue the role has no worker for. It runs once all singletons exist, which is
+ * before WorkerStarter starts the WorkerFactory.
+ */
+@Configuration
+public class WorkflowRegistration {
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowRegistration.class);
+
+    @Bean
+    public WorkflowSettings workflowSettings(DemoProperties properties) {
+        return new WorkflowSettings(properties);
+    }
+
+    @Bean
+    public SmartInitializingSingleton workflowFactoryRegistrar(@Qualifier("temporalWorkers") Collection<Worker> workers,
+                                                               DemoProperties properties,
+                                                               WorkflowSettings settings) {
+        return () -> {
+            for (Worker worker : workers) {
+                if (worker.getTaskQueue().equals(properties.taskQueues().priorityWorkflow())) {
+                    worker.registerWorkflowImplementationFactory(
+                            PriorityWorkflow.class, () -> new PriorityWorkflowImpl(settings));
+                    logger.debug("Registered PriorityWorkflow on {}", worker.getTaskQueue());
+                } else if (worker.getTaskQueue().equals(properties.taskQueues().fairness())) {
+                    worker.registerWorkflowImplementationFactory(
+                            FairnessWorkflow.class, () -> new FairnessWorkflowImpl(settings));
+                    logger.debug("Registered FairnessWorkflow on {}", worker.getTaskQueue());
+                }
+            }
+        };
+    }
+}
@@ -3,6 +3,9 @@ package com.demo.priority.service.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Band {
@@ -10,4 +13,16 @@ public class Band {
     private int weight;
     // Optional: number of workflows to start for this band (fairness mode)
     private Integer count;
+
+    /**
+     * Bands used in fairness mode when the request does not supply any.
+     */
+    public static List<Band> defaultBands() {
+        List<Band> bands = new ArrayList<>();
+        Band b1 = new Band(); b1.setKey("first-class");    b1.setWeight(15);
+        Band b2 = new Band(); b2.setKey("business-class");  b2.setWeight(5);
+        Band b3 = new Band(); b3.setKey("economy-class");   b3.setWeight(1);
+        bands.add(b1); bands.add(b2); bands.add(b3);
+        return bands;
+    }
 }
@@ -0,0 +1,19 @@
+package com.demo.priority.service.model;
+
+import lombok.Data;
+
+@Data
+public class BandComparison {
+    private String band;
+    private Long baselineP50Millis;
+    private Long candidateP50Millis;
+    private Long baselineP90Millis;
+    private Long candidateP90Millis;
+    private Double meanChangePct;
+    // Welch's t for candidate mean minus baseline mean; positive means slower.
+    private Double welchTStatistic;
+    // Welch-Satterthwaite degrees of freedom and one-sided p-value for the candidate being slower.
+    private Double welchDegreesOfFreedom;
+    private Double latencyPValue;
+    private boolean latencyRegression;
+}
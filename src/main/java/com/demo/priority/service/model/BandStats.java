@@ -0,0 +1,22 @@
+package com.demo.priority.service.model;
+
+import lombok.Data;
+
+/**
+ * Completion-time statistics for one band (priority level or fairness key) of a run.
+ * Times are millis from the run's first workflow execution to each workflow's close.
+ */
+@Data
+public class BandStats {
+    private String band;
+    private int weight;
+    private int count;
+    private double meanMillis;
+    private double stdDevMillis;
+    private long p50Millis;
+    private long p90Millis;
+    private long p99Millis;
+    private long maxMillis;
+    // Completions while every band still had work queued (the fairness window). Fairness mode only.
+    private Integer windowCompletions;
+}
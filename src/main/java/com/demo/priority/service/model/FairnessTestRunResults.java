@@ -12,13 +12,11 @@ public class FairnessTestRunResults {
     int totalWorkflowsInTest;
 
     public FairnessTestRunResults(List<WorkflowExecutionMetadata> wfExecutionMetadata) {
-        totalWorkflowsInTest = wfExecutionMetadata.size();
         SearchAttributeKey<String> fairnessKeyAttr = SearchAttributeKey.forKeyword("FairnessKey");
         SearchAttributeKey<Long> fairnessWeightAttr = SearchAttributeKey.forLong("FairnessWeight");
         SearchAttributeKey<Long> activitiesCompletedKey = SearchAttributeKey.forLong("ActivitiesCompleted");
 
-        Map<String, FairnessSummary> groups = new LinkedHashMap<>();
-
+        List<WorkflowProgress> progress = new ArrayList<>(wfExecutionMetadata.size());
         for (WorkflowExecutionMetadata meta : wfExecutionMetadata) {
             String fairnessKey = (String) meta.getTypedSearchAttributes().get(fairnessKeyAttr);
             if (fairnessKey == null) fairnessKey = "";
@@ -26,6 +24,45 @@ public class FairnessTestRunResults {
             Long weightValue = (Long) meta.getTypedSearchAttributes().get(fairnessWeightAttr);
             if (weightValue != null) weightLong = weightValue;
 
+            long activitiesCompleted = 0L;
+            Long ac = (Long) meta.getTypedSearchAttributes().get(activitiesCompletedKey);
+            if (ac != null) activitiesCompleted = ac;
+
+            progress.add(new WorkflowProgress(0, fairnessKey, weightLong, activitiesCompleted));
+        }
+        summarise(progress);
+    }
+
+    private FairnessTestRunResults() {
+    }
+
+    /**
+     * Builds results from progress that did not come from Temporal visibility, e.g. a simulated run.
+     */
+    public static FairnessTestRunResults fromProgress(List<WorkflowProgress> progress) {
+        FairnessTestRunResults results = new FairnessTestRunResults();
+        results.summarise(progress);
+        return results;
+    }
+
+    /**
+     * Builds results from already aggregated per-band summaries, e.g. simulator counters.
+     */
+    public static FairnessTestRunResults fromSummaries(Collection<FairnessSummary> summaries, int totalWorkflows) {
+        FairnessTestRunResults results = new FairnessTestRunResults();
+        results.totalWorkflowsInTest = totalWorkflows;
+        results.addSorted(summaries);
+        return results;
+    }
+
+    private void summarise(List<WorkflowProgress> progress) {
+        totalWorkflowsInTest = progress.size();
+        Map<String, FairnessSummary> groups = new LinkedHashMap<>();
+
+        for (WorkflowProgress wf : progress) {
+            String fairnessKey = wf.getFairnessKey() == null ? "" : wf.getFairnessKey();
+            long weightLong = wf.getFairnessWeight();
+
             String groupKey = fairnessKey + "|" + weightLong;
             FairnessSummary summary = groups.get(groupKey);
             if (summary == null) {
@@ -38,15 +75,16 @@ public class FairnessTestRunResults {
 
             summary.setNumberOfWorkflows(summary.getNumberOfWorkflows() + 1);
 
-            long activitiesCompleted = 0L;
-            Long ac = (Long) meta.getTypedSearchAttributes().get(activitiesCompletedKey);
-            if (ac != null) activitiesCompleted = ac;
-            for (int actComplete = 1; actComplete <= activitiesCompleted; actComplete++) {
+            for (int actComplete = 1; actComplete <= wf.getActivitiesCompleted(); actComplete++) {
                 incrementActivityCompleted(actComplete, summary);
             }
         }
 
-        java.util.List<FairnessSummary> sorted = new java.util.ArrayList<>(groups.values());
+        addSorted(groups.values());
+    }
+
+    private void addSorted(Collection<FairnessSummary> summaries) {
+        java.util.List<FairnessSummary> sorted = new java.util.ArrayList<>(summaries);
         sorted.sort(java.util.Comparator
                 .comparingInt(FairnessSummary::getFairnessWeight)
                 .reversed()
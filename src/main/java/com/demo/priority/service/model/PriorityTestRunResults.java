@@ -16,10 +16,49 @@ public class PriorityTestRunResults {
 
     public PriorityTestRunResults(List<WorkflowExecutionMetadata> wfExecutionMetadata)
     {
-        totalWorkflowsInTest = wfExecutionMetadata.size();
         SearchAttributeKey priorityKey = SearchAttributeKey.forLong("Priority");
         SearchAttributeKey activitiesCompletedKey = SearchAttributeKey.forLong("ActivitiesCompleted");
 
+        List<WorkflowProgress> progress = new ArrayList<>(wfExecutionMetadata.size());
+        Iterator<WorkflowExecutionMetadata> iterator = wfExecutionMetadata.iterator();
+        while (iterator.hasNext())
+        {
+         WorkflowExecutionMetadata workflowExecutionMetadata = iterator.next();
+         long wfPriority = (long)workflowExecutionMetadata.getTypedSearchAttributes().get(priorityKey);
+         long activitiesCompleted = (long)workflowExecutionMetadata.getTypedSearchAttributes().get(activitiesCompletedKey);
+         progress.add(new WorkflowProgress((int)wfPriority, null, 0, activitiesCompleted));
+        }
+        summarise(progress);
+    } // End PriorityTestRunResults
+
+    private PriorityTestRunResults()
+    {
+    }
+
+    /**
+     * Builds results from progress that did not come from Temporal visibility, e.g. a simulated run.
+     */
+    public static PriorityTestRunResults fromProgress(List<WorkflowProgress> progress)
+    {
+        PriorityTestRunResults results = new PriorityTestRunResults();
+        results.summarise(progress);
+        return results;
+    } // End fromProgress
+
+    /**
+     * Builds results from already aggregated per-priority summaries (index 0 = priority 1), e.g. simulator counters.
+     */
+    public static PriorityTestRunResults fromSummaries(Collection<WorkflowSummary> summaries, int totalWorkflows)
+    {
+        PriorityTestRunResults results = new PriorityTestRunResults();
+        results.totalWorkflowsInTest = totalWorkflows;
+        results.workflowsByPriority.addAll(summaries);
+        return results;
+    } // End fromSummaries
+
+    private void summarise(List<WorkflowProgress> progress)
+    {
+        totalWorkflowsInTest = progress.size();
 
         // initialise all counters to 0
         for (int priority = 1; priority <= 5; priority++) {
@@ -30,23 +69,18 @@ public class PriorityTestRunResults {
         }
 // TODO - Add in the activity setting to 0
 
-        Iterator<WorkflowExecutionMetadata> iterator = wfExecutionMetadata.iterator();
-        while (iterator.hasNext())
+        for (WorkflowProgress wf : progress)
         {
-         WorkflowExecutionMetadata workflowExecutionMetadata = iterator.next();
-         long wfPriority = (long)workflowExecutionMetadata.getTypedSearchAttributes().get(priorityKey);
-         WorkflowSummary wfSummary = ((ArrayList<WorkflowSummary>)workflowsByPriority).get((int)wfPriority - 1);
+         WorkflowSummary wfSummary = ((ArrayList<WorkflowSummary>)workflowsByPriority).get(wf.getPriority() - 1);
          wfSummary.setNumberOfWorkflows(wfSummary.getNumberOfWorkflows() + 1);
 
          // For each workflow add the activity progress counts up.
-         long activitiesCompleted = (long)workflowExecutionMetadata.getTypedSearchAttributes().get(activitiesCompletedKey);
-         for (int actComplete = 1; actComplete <= activitiesCompleted; actComplete++) {
+         for (int actComplete = 1; actComplete <= wf.getActivitiesCompleted(); actComplete++) {
              incrementActivityCompleted(actComplete, wfSummary);
          }
         }
-    } // End PriorityTestRunResults
+    } // End summarise
     private void incrementActivityCompleted(int actComplete, WorkflowSummary wfSummary) {
-        System.out.println("Summary priority we are looking at [" + wfSummary.getWorkflowPriority() + "]");
         ActivitySummary actSummary = null;
         try {
              actSummary = ((ArrayList<ActivitySummary>) wfSummary.getActivities()).get(actComplete - 1);
@@ -0,0 +1,23 @@
+package com.demo.priority.service.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One candidate run compared with the baseline run.
+ */
+@Data
+public class RunComparison {
+    private String baselineRunPrefix;
+    private String candidateRunPrefix;
+    private Double throughputChangePct;
+    private Double fairnessDeviationChange;
+    // Chi-square homogeneity test of the two runs' in-window completion counts per band.
+    private Double fairnessChiSquare;
+    private Double fairnessPValue;
+    private boolean fairnessRegression;
+    private List<BandComparison> bands = new ArrayList<>();
+    private List<String> regressions = new ArrayList<>();
+}
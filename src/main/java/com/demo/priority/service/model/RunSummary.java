@@ -0,0 +1,29 @@
+package com.demo.priority.service.model;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact record of a run, persisted by RunStore so runs can be compared later.
+ * Written with completed=false when the run starts and filled in once every workflow has closed.
+ */
+@Data
+public class RunSummary {
+    private String runPrefix;
+    private String mode;
+    private WorkflowConfig config;
+    // demo.workflow.activity-executors when the run started: executor slots on each activity worker.
+    private Integer activityExecutors;
+    private Instant startedAt;
+    private boolean completed;
+    private int totalWorkflows;
+    private long durationMillis;
+    private double workflowsPerSecond;
+    // Total variation distance between observed and weight-expected completion shares while every
+    // band still had work queued. 0 = perfectly weighted, 1 = one band took everything. Fairness mode only.
+    private Double fairnessDeviation;
+    private List<BandStats> bands = new ArrayList<>();
+}
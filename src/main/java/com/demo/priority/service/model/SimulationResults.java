@@ -0,0 +1,24 @@
+package com.demo.priority.service.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output of an offline dispatch simulation. Each sample has the same shape the matching
+ * run-status endpoint returns, taken every sampleIntervalMillis of simulated time (widened
+ * from the requested interval on long runs), so the expected curve can be overlaid on the
+ * observed one. sampleTimesMillis holds the simulated time of each sample; the last one is
+ * the end of the run.
+ */
+@Data
+public class SimulationResults<T> {
+    private int executorSlots;
+    private long activityDurationMillis;
+    private long sampleIntervalMillis;
+    private long simulatedDurationMillis;
+    private long tasksDispatched;
+    private List<T> samples = new ArrayList<>();
+    private List<Long> sampleTimesMillis = new ArrayList<>();
+}
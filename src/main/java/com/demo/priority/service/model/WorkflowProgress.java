@@ -0,0 +1,19 @@
+package com.demo.priority.service.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a single workflow in a run, independent of where it came from
+ * (Temporal visibility or the offline dispatch simulator).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowProgress {
+    private int priority;
+    private String fairnessKey;
+    private long fairnessWeight;
+    private long activitiesCompleted;
+}
@@ -0,0 +1,20 @@
+package com.demo.priority.service.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The worker settings a single workflow execution runs with. Recorded in the workflow's
+ * history on its first run (Workflow.sideEffect) so replays keep using the same values
+ * even after demo.workflow.* or the task queue names change and workers are redeployed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowRunSettings {
+    private int activitiesPerWorkflow;
+    private String activityTaskQueue;
+    private long activityStartToCloseTimeoutMillis;
+    private int defaultPriority;
+}
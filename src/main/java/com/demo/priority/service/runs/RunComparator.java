@@ -0,0 +1,147 @@
+package com.demo.priority.service.runs;
+
+import com.demo.priority.service.model.BandComparison;
+import com.demo.priority.service.model.BandStats;
+import com.demo.priority.service.model.RunComparison;
+import com.demo.priority.service.model.RunSummary;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diffs a candidate run against a baseline and flags regressions.
+ *
+ * Latency: per band, Welch's t-test on mean completion time with Welch-Satterthwaite degrees
+ * of freedom. A band regresses when the one-sided p-value for "candidate is slower" is below
+ * LATENCY_ALPHA and the mean moved by more than MIN_LATENCY_CHANGE_PCT (so large runs don't
+ * flag noise-level shifts).
+ * Fairness: a chi-square homogeneity test on the two runs' in-window completion counts per
+ * band. The run regresses when the split differs at FAIRNESS_ALPHA and the deviation from the
+ * weight shares grew by more than FAIRNESS_TOLERANCE. Summaries recorded without window counts
+ * fall back to the tolerance alone.
+ *
+ * Completion times within a run are not independent samples (workflows share executors), so
+ * the p-values are a screening aid rather than an exact error rate.
+ */
+public final class RunComparator {
+    static final double LATENCY_ALPHA = 0.025;
+    static final double MIN_LATENCY_CHANGE_PCT = 5.0;
+    static final double FAIRNESS_ALPHA = 0.05;
+    static final double FAIRNESS_TOLERANCE = 0.05;
+
+    private RunComparator() {
+    }
+
+    public static RunComparison compare(RunSummary baseline, RunSummary candidate) {
+        RunComparison comparison = new RunComparison();
+        comparison.setBaselineRunPrefix(baseline.getRunPrefix());
+        comparison.setCandidateRunPrefix(candidate.getRunPrefix());
+        if (baseline.getWorkflowsPerSecond() > 0) {
+            comparison.setThroughputChangePct(
+                    pctChange(baseline.getWorkflowsPerSecond(), candidate.getWorkflowsPerSecond()));
+        }
+
+        Map<String, BandStats> baselineBands = new LinkedHashMap<>();
+        baseline.getBands().forEach(b -> baselineBands.put(b.getBand(), b));
+        for (BandStats candidateBand : candidate.getBands()) {
+            BandComparison band = new BandComparison();
+            band.setBand(candidateBand.getBand());
+            band.setCandidateP50Millis(candidateBand.getP50Millis());
+            band.setCandidateP90Millis(candidateBand.getP90Millis());
+
+            BandStats baselineBand = baselineBands.get(candidateBand.getBand());
+            if (baselineBand != null) {
+                band.setBaselineP50Millis(baselineBand.getP50Millis());
+                band.setBaselineP90Millis(baselineBand.getP90Millis());
+                if (baselineBand.getMeanMillis() > 0) {
+                    band.setMeanChangePct(pctChange(baselineBand.getMeanMillis(), candidateBand.getMeanMillis()));
+                }
+                welchTest(band, baselineBand, candidateBand);
+                band.setLatencyRegression(band.getLatencyPValue() != null
+                        && band.getLatencyPValue() < LATENCY_ALPHA
+                        && band.getMeanChangePct() != null
+                        && band.getMeanChangePct() > MIN_LATENCY_CHANGE_PCT);
+                if (band.isLatencyRegression()) {
+                    comparison.getRegressions().add(String.format(
+                            "Band [%s] mean completion time up %.1f%% (t=%.2f, df=%.1f, p=%.4f)",
+                            band.getBand(), band.getMeanChangePct(), band.getWelchTStatistic(),
+                            band.getWelchDegreesOfFreedom(), band.getLatencyPValue()));
+                }
+            }
+            comparison.getBands().add(band);
+        }
+
+        if (baseline.getFairnessDeviation() != null && candidate.getFairnessDeviation() != null) {
+            double change = candidate.getFairnessDeviation() - baseline.getFairnessDeviation();
+            comparison.setFairnessDeviationChange(change);
+            chiSquareTest(comparison, baselineBands, candidate);
+            comparison.setFairnessRegression(change > FAIRNESS_TOLERANCE
+                    && (comparison.getFairnessPValue() == null || comparison.getFairnessPValue() < FAIRNESS_ALPHA));
+            if (comparison.isFairnessRegression()) {
+                comparison.getRegressions().add(comparison.getFairnessPValue() == null
+                        ? String.format("Fairness deviation up from %.3f to %.3f",
+                                baseline.getFairnessDeviation(), candidate.getFairnessDeviation())
+                        : String.format("Fairness deviation up from %.3f to %.3f (chi2=%.2f, p=%.4f)",
+                                baseline.getFairnessDeviation(), candidate.getFairnessDeviation(),
+                                comparison.getFairnessChiSquare(), comparison.getFairnessPValue()));
+            }
+        }
+        return comparison;
+    }
+
+    private static double pctChange(double from, double to) {
+        return (to - from) / from * 100.0;
+    }
+
+    private static void welchTest(BandComparison band, BandStats baseline, BandStats candidate) {
+        if (baseline.getCount() < 2 || candidate.getCount() < 2) return;
+        double baselineVariance = baseline.getStdDevMillis() * baseline.getStdDevMillis();
+        double candidateVariance = candidate.getStdDevMillis() * candidate.getStdDevMillis();
+        double standardError = Math.sqrt(
+                baselineVariance / baseline.getCount() + candidateVariance / candidate.getCount());
+        if (standardError == 0) return;
+        double t = (candidate.getMeanMillis() - baseline.getMeanMillis()) / standardError;
+        double df = Statistics.welchDegreesOfFreedom(
+                baselineVariance, baseline.getCount(), candidateVariance, candidate.getCount());
+        band.setWelchTStatistic(t);
+        band.setWelchDegreesOfFreedom(df);
+        band.setLatencyPValue(Statistics.studentTUpperTail(t, df));
+    }
+
+    /**
+     * 2 x k contingency test of baseline vs candidate in-window counts over the bands both runs
+     * have. Leaves the statistic unset when either run has no window counts or fewer than two
+     * bands had completions.
+     */
+    private static void chiSquareTest(RunComparison comparison, Map<String, BandStats> baselineBands, RunSummary candidate) {
+        List<long[]> rows = new ArrayList<>();
+        long baselineTotal = 0;
+        long candidateTotal = 0;
+        for (BandStats candidateBand : candidate.getBands()) {
+            BandStats baselineBand = baselineBands.get(candidateBand.getBand());
+            if (baselineBand == null || baselineBand.getWindowCompletions() == null
+                    || candidateBand.getWindowCompletions() == null) continue;
+            long b = baselineBand.getWindowCompletions();
+            long c = candidateBand.getWindowCompletions();
+            if (b + c == 0) continue;
+            rows.add(new long[]{b, c});
+            baselineTotal += b;
+            candidateTotal += c;
+        }
+        if (rows.size() < 2 || baselineTotal == 0 || candidateTotal == 0) return;
+
+        double total = baselineTotal + candidateTotal;
+        double chiSquare = 0;
+        for (long[] row : rows) {
+            double rowTotal = row[0] + row[1];
+            double expectedBaseline = rowTotal * baselineTotal / total;
+            double expectedCandidate = rowTotal * candidateTotal / total;
+            chiSquare += (row[0] - expectedBaseline) * (row[0] - expectedBaseline) / expectedBaseline
+                    + (row[1] - expectedCandidate) * (row[1] - expectedCandidate) / expectedCandidate;
+        }
+        comparison.setFairnessChiSquare(chiSquare);
+        comparison.setFairnessPValue(Statistics.chiSquareUpperTail(chiSquare, rows.size() - 1));
+    }
+}
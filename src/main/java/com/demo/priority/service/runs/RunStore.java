@@ -0,0 +1,152 @@
+package com.demo.priority.service.runs;
+
+import com.demo.priority.service.config.DemoProperties;
+import com.demo.priority.service.model.RunSummary;
+import com.demo.priority.service.model.WorkflowConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.temporal.client.WorkflowExecutionMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Local file store of run summaries, one JSON file per run prefix under demo.run-store.directory.
+ * File names are the prefix with unsafe characters replaced, plus a hash of the exact prefix, so
+ * prefixes such as run/1 and run_1 (or ones differing only in case) never share a file.
+ *
+ * Storage problems are logged and swallowed: recording a run must never break starting
+ * workflows or reporting their status.
+ */
+@Component
+public class RunStore {
+    private static final Logger logger = LoggerFactory.getLogger(RunStore.class);
+    private static final int MAX_NAME_CHARS = 100;
+
+    private final Path directory;
+    private final ObjectMapper mapper;
+    private final int activityExecutors;
+    // Prefixes already summarised, so status polls after completion don't touch the disk.
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    public RunStore(@Value("${demo.run-store.directory}") String directory,
+                    ObjectMapper mapper,
+                    DemoProperties properties) {
+        this.directory = Paths.get(directory);
+        this.mapper = mapper;
+        this.activityExecutors = properties.workflow().activityExecutors();
+    }
+
+    public void recordStart(WorkflowConfig config, String mode) {
+        if (config.getWorkflowIdPrefix() == null) return;
+        RunSummary summary = new RunSummary();
+        summary.setRunPrefix(config.getWorkflowIdPrefix());
+        summary.setMode(mode);
+        summary.setConfig(config);
+        summary.setActivityExecutors(activityExecutors);
+        summary.setStartedAt(Instant.now());
+        completed.remove(config.getWorkflowIdPrefix());
+        write(summary);
+    }
+
+    /**
+     * Summarises and persists the run once every workflow in it has closed. Cheap to call on
+     * every status poll.
+     */
+    public void recordProgress(String runPrefix, String mode, List<WorkflowExecutionMetadata> metadata) {
+        if (completed.contains(runPrefix)) return;
+        List<RunSummarizer.Execution> executions = RunSummarizer.executions(metadata);
+        if (!RunSummarizer.allClosed(executions)) return;
+
+        RunSummary summary = find(runPrefix).orElseGet(() -> {
+            // Started before this node was recording (or by another node); keep what visibility has.
+            RunSummary s = new RunSummary();
+            s.setRunPrefix(runPrefix);
+            s.setMode(mode);
+            return s;
+        });
+        if (!summary.isCompleted()) {
+            RunSummarizer.summarise(summary, executions);
+            write(summary);
+            logger.debug("Recorded summary for run {}", runPrefix);
+        }
+        completed.add(runPrefix);
+    }
+
+    public Optional<RunSummary> find(String runPrefix) {
+        Optional<RunSummary> summary = read(fileFor(runPrefix));
+        if (summary.isPresent()) return summary;
+        // Summaries written before file names carried a hash; only trust one recorded for this exact prefix.
+        return read(directory.resolve(safeName(runPrefix) + ".json"))
+                .filter(s -> runPrefix.equals(s.getRunPrefix()));
+    }
+
+    public List<RunSummary> findAll() {
+        List<RunSummary> summaries = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return summaries;
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.toString().endsWith(".json")).sorted().forEach(f -> {
+                try {
+                    summaries.add(mapper.readValue(f.toFile(), RunSummary.class));
+                } catch (IOException ex) {
+                    logger.warn("Unable to read run summary {}", f, ex);
+                }
+            });
+        } catch (IOException ex) {
+            logger.warn("Unable to list run summaries in {}", directory, ex);
+        }
+        summaries.sort(Comparator.comparing(RunSummary::getStartedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return summaries;
+    }
+
+    private void write(RunSummary summary) {
+        try {
+            Files.createDirectories(directory);
+            mapper.writerWithDefaultPrettyPrinter().writeValue(fileFor(summary.getRunPrefix()).toFile(), summary);
+        } catch (IOException ex) {
+            logger.warn("Unable to write run summary for {}", summary.getRunPrefix(), ex);
+        }
+    }
+
+    private Optional<RunSummary> read(Path file) {
+        if (!Files.exists(file)) return Optional.empty();
+        try {
+            return Optional.of(mapper.readValue(file.toFile(), RunSummary.class));
+        } catch (IOException ex) {
+            logger.warn("Unable to read run summary {}", file, ex);
+            return Optional.empty();
+        }
+    }
+
+    private Path fileFor(String runPrefix) {
+        // The hash makes the name unique, so the readable part can be cut to stay under file name limits.
+        String name = safeName(runPrefix);
+        if (name.length() > MAX_NAME_CHARS) name = name.substring(0, MAX_NAME_CHARS);
+        return directory.resolve(name + "-" + hash(runPrefix) + ".json");
+    }
+
+    private static String safeName(String runPrefix) {
+        return runPrefix.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static String hash(String runPrefix) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(runPrefix.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is always available", ex);
+        }
+    }
+}
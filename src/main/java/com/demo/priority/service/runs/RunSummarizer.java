@@ -0,0 +1,175 @@
+package com.demo.priority.service.runs;
+
+import com.demo.priority.service.model.Band;
+import com.demo.priority.service.model.BandStats;
+import com.demo.priority.service.model.RunSummary;
+import io.temporal.client.WorkflowExecutionMetadata;
+import io.temporal.common.SearchAttributeKey;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Turns the visibility records of a finished run into the numbers kept in a RunSummary.
+ */
+final class RunSummarizer {
+    private static final SearchAttributeKey<Long> PRIORITY = SearchAttributeKey.forLong("Priority");
+    private static final SearchAttributeKey<String> FAIRNESS_KEY = SearchAttributeKey.forKeyword("FairnessKey");
+    private static final SearchAttributeKey<Long> FAIRNESS_WEIGHT = SearchAttributeKey.forLong("FairnessWeight");
+
+    /**
+     * The parts of a visibility record the summary needs. closeMillis is null while running.
+     */
+    record Execution(Long priority, String fairnessKey, Long fairnessWeight, long startMillis, Long closeMillis) {
+        static Execution of(WorkflowExecutionMetadata meta) {
+            // Execution time includes the start delay, so it is when the workflow could first run.
+            Instant start = meta.getExecutionTime() != null ? meta.getExecutionTime() : meta.getStartTime();
+            return new Execution(
+                    meta.getTypedSearchAttributes().get(PRIORITY),
+                    meta.getTypedSearchAttributes().get(FAIRNESS_KEY),
+                    meta.getTypedSearchAttributes().get(FAIRNESS_WEIGHT),
+                    start.toEpochMilli(),
+                    meta.getCloseTime() == null ? null : meta.getCloseTime().toEpochMilli());
+        }
+    }
+
+    private RunSummarizer() {
+    }
+
+    static List<Execution> executions(List<WorkflowExecutionMetadata> metadata) {
+        List<Execution> executions = new ArrayList<>(metadata.size());
+        for (WorkflowExecutionMetadata meta : metadata) {
+            executions.add(Execution.of(meta));
+        }
+        return executions;
+    }
+
+    static boolean allClosed(List<Execution> executions) {
+        if (executions.isEmpty()) return false;
+        for (Execution execution : executions) {
+            if (execution.closeMillis() == null) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Fills in the statistics of summary from a run whose workflows have all closed.
+     */
+    static void summarise(RunSummary summary, List<Execution> executions) {
+        boolean fairness = "fairness".equals(summary.getMode());
+        Map<String, Integer> configuredWeights = configuredWeights(summary);
+
+        long runStart = Long.MAX_VALUE;
+        for (Execution execution : executions) {
+            runStart = Math.min(runStart, execution.startMillis());
+        }
+
+        // Band -> completion millis, plus every completion in close order for the fairness window.
+        Map<String, List<Long>> byBand = new LinkedHashMap<>();
+        Map<String, Integer> weights = new HashMap<>();
+        List<Map.Entry<Long, String>> completions = new ArrayList<>(executions.size());
+        long runEnd = runStart;
+        for (Execution execution : executions) {
+            String band;
+            int weight = 0;
+            if (fairness) {
+                band = execution.fairnessKey();
+                if (band == null) band = "";
+                // Prefer the requested weight so disableFairness runs are measured against the same target.
+                Integer configured = configuredWeights.get(band);
+                Long reported = execution.fairnessWeight();
+                weight = configured != null ? configured : (reported == null ? 0 : reported.intValue());
+            } else {
+                Long priority = execution.priority();
+                band = "priority-" + (priority == null ? "unset" : priority);
+            }
+            long closeMillis = execution.closeMillis();
+            long completion = closeMillis - runStart;
+            byBand.computeIfAbsent(band, k -> new ArrayList<>()).add(completion);
+            weights.put(band, weight);
+            completions.add(Map.entry(completion, band));
+            runEnd = Math.max(runEnd, closeMillis);
+        }
+
+        summary.setTotalWorkflows(executions.size());
+        summary.setDurationMillis(runEnd - runStart);
+        summary.setWorkflowsPerSecond(runEnd > runStart ? executions.size() * 1000.0 / (runEnd - runStart) : 0);
+        summary.getBands().clear();
+        for (Map.Entry<String, List<Long>> entry : byBand.entrySet()) {
+            summary.getBands().add(bandStats(entry.getKey(), weights.get(entry.getKey()), entry.getValue()));
+        }
+        summary.setFairnessDeviation(fairness ? fairnessDeviation(summary.getBands(), completions) : null);
+        summary.setCompleted(true);
+    }
+
+    private static Map<String, Integer> configuredWeights(RunSummary summary) {
+        Map<String, Integer> weights = new HashMap<>();
+        if (summary.getConfig() == null) return weights;
+        List<Band> bands = summary.getConfig().getBands();
+        if (bands == null || bands.isEmpty()) bands = Band.defaultBands();
+        for (Band band : bands) {
+            weights.put(band.getKey(), band.getWeight());
+        }
+        return weights;
+    }
+
+    private static BandStats bandStats(String band, int weight, List<Long> completions) {
+        long[] sorted = completions.stream().mapToLong(Long::longValue).sorted().toArray();
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        double variance = 0;
+        for (long value : sorted) {
+            variance += (value - mean) * (value - mean);
+        }
+        variance = sorted.length > 1 ? variance / (sorted.length - 1) : 0;
+
+        BandStats stats = new BandStats();
+        stats.setBand(band);
+        stats.setWeight(weight);
+        stats.setCount(sorted.length);
+        stats.setMeanMillis(mean);
+        stats.setStdDevMillis(Math.sqrt(variance));
+        stats.setP50Millis(percentile(sorted, 50));
+        stats.setP90Millis(percentile(sorted, 90));
+        stats.setP99Millis(percentile(sorted, 99));
+        stats.setMaxMillis(sorted[sorted.length - 1]);
+        return stats;
+    }
+
+    // Nearest-rank percentile of an ascending array.
+    static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * While every band still has work queued, weighted fairness should complete workflows in
+     * proportion to weight. The window runs until the first band finishes; within it the
+     * observed share of completions is compared with weight / total weight. Each band's
+     * in-window count is kept on its BandStats for RunComparator's chi-square test.
+     */
+    private static Double fairnessDeviation(List<BandStats> bands, List<Map.Entry<Long, String>> completions) {
+        if (bands.size() < 2) return null;
+        double totalWeight = bands.stream().mapToDouble(b -> Math.max(b.getWeight(), 0)).sum();
+        if (totalWeight <= 0) return null;
+
+        long windowEnd = bands.stream().mapToLong(BandStats::getMaxMillis).min().getAsLong();
+        Map<String, Integer> counts = new HashMap<>();
+        int inWindow = 0;
+        for (Map.Entry<Long, String> completion : completions) {
+            if (completion.getKey() <= windowEnd) {
+                counts.merge(completion.getValue(), 1, Integer::sum);
+                inWindow++;
+            }
+        }
+        if (inWindow == 0) return null;
+
+        double deviation = 0;
+        for (BandStats band : bands) {
+            band.setWindowCompletions(counts.getOrDefault(band.getBand(), 0));
+            double observed = counts.getOrDefault(band.getBand(), 0) / (double) inWindow;
+            double expected = Math.max(band.getWeight(), 0) / totalWeight;
+            deviation += Math.abs(observed - expected);
+        }
+        return deviation / 2;
+    }
+}
@@ -0,0 +1,144 @@
+package com.demo.priority.service.runs;
+
+/**
+ * The few distribution functions RunComparator needs, so the run store doesn't pull in a
+ * statistics library. Incomplete beta and gamma follow the usual continued-fraction / series
+ * evaluations (Numerical Recipes, ch. 6) and are accurate to ~1e-10, far more than the
+ * significance thresholds need.
+ */
+final class Statistics {
+    private static final int MAX_ITERATIONS = 300;
+    private static final double EPSILON = 1e-12;
+    private static final double TINY = 1e-300;
+
+    private Statistics() {
+    }
+
+    /**
+     * Welch-Satterthwaite degrees of freedom for two samples with unequal variances.
+     */
+    static double welchDegreesOfFreedom(double variance1, int n1, double variance2, int n2) {
+        double a = variance1 / n1;
+        double b = variance2 / n2;
+        double denominator = a * a / (n1 - 1) + b * b / (n2 - 1);
+        if (denominator == 0) return Double.POSITIVE_INFINITY;
+        return (a + b) * (a + b) / denominator;
+    }
+
+    /**
+     * P(T > t) for Student's t with df degrees of freedom (df may be fractional).
+     */
+    static double studentTUpperTail(double t, double df) {
+        if (Double.isInfinite(df)) return 0.5 * erfc(t / Math.sqrt(2));
+        double tail = 0.5 * regularizedIncompleteBeta(df / (df + t * t), df / 2, 0.5);
+        return t >= 0 ? tail : 1 - tail;
+    }
+
+    /**
+     * P(X > x) for chi-square with k degrees of freedom.
+     */
+    static double chiSquareUpperTail(double x, int k) {
+        if (x <= 0) return 1;
+        return regularizedGammaQ(k / 2.0, x / 2);
+    }
+
+    static double regularizedIncompleteBeta(double x, double a, double b) {
+        if (x <= 0) return 0;
+        if (x >= 1) return 1;
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                + a * Math.log(x) + b * Math.log(1 - x));
+        // The continued fraction converges fastest on this side of the mean; use symmetry otherwise.
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaContinuedFraction(x, a, b) / a;
+        }
+        return 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    static double regularizedGammaQ(double a, double x) {
+        if (x < a + 1) {
+            // Series for P(a, x).
+            double term = 1 / a;
+            double sum = term;
+            for (int n = 1; n < MAX_ITERATIONS; n++) {
+                term *= x / (a + n);
+                sum += term;
+                if (Math.abs(term) < Math.abs(sum) * EPSILON) break;
+            }
+            return 1 - sum * Math.exp(-x + a * Math.log(x) - logGamma(a));
+        }
+        // Continued fraction for Q(a, x).
+        double b = x + 1 - a;
+        double c = 1 / TINY;
+        double d = 1 / b;
+        double h = d;
+        for (int i = 1; i < MAX_ITERATIONS; i++) {
+            double an = -i * (i - a);
+            b += 2;
+            d = an * d + b;
+            if (Math.abs(d) < TINY) d = TINY;
+            c = b + an / c;
+            if (Math.abs(c) < TINY) c = TINY;
+            d = 1 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < EPSILON) break;
+        }
+        return Math.exp(-x + a * Math.log(x) - logGamma(a)) * h;
+    }
+
+    private static double betaContinuedFraction(double x, double a, double b) {
+        double qab = a + b;
+        double qap = a + 1;
+        double qam = a - 1;
+        double c = 1;
+        double d = 1 - qab * x / qap;
+        if (Math.abs(d) < TINY) d = TINY;
+        d = 1 / d;
+        double h = d;
+        for (int m = 1; m < MAX_ITERATIONS; m++) {
+            int m2 = 2 * m;
+            double aa = m * (b - m) * x / ((qam + m2) * (a + m2));
+            d = 1 + aa * d;
+            if (Math.abs(d) < TINY) d = TINY;
+            c = 1 + aa / c;
+            if (Math.abs(c) < TINY) c = TINY;
+            d = 1 / d;
+            h *= d * c;
+            aa = -(a + m) * (qab + m) * x / ((a + m2) * (qap + m2));
+            d = 1 + aa * d;
+            if (Math.abs(d) < TINY) d = TINY;
+            c = 1 + aa / c;
+            if (Math.abs(c) < TINY) c = TINY;
+            d = 1 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < EPSILON) break;
+        }
+        return h;
+    }
+
+    // Lanczos approximation (g = 7, n = 9).
+    private static final double[] LANCZOS = {
+            0.99999999999980993, 676.5203681218851, -1259.1392167224028, 771.32342877765313,
+            -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+            9.9843695780195716e-6, 1.5056327351493116e-7};
+
+    static double logGamma(double x) {
+        if (x < 0.5) {
+            return Math.log(Math.PI / Math.abs(Math.sin(Math.PI * x))) - logGamma(1 - x);
+        }
+        x -= 1;
+        double sum = LANCZOS[0];
+        for (int i = 1; i < LANCZOS.length; i++) {
+            sum += LANCZOS[i] / (x + i);
+        }
+        double t = x + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (x + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+
+    private static double erfc(double z) {
+        // erfc(z) = Q(1/2, z^2) for z >= 0.
+        if (z >= 0) return regularizedGammaQ(0.5, z * z);
+        return 2 - regularizedGammaQ(0.5, z * z);
+    }
+}
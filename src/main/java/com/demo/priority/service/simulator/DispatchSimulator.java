@@ -0,0 +1,270 @@
+package com.demo.priority.service.simulator;
+
+import com.demo.priority.service.model.ActivitySummary;
+import com.demo.priority.service.model.Band;
+import com.demo.priority.service.model.FairnessSummary;
+import com.demo.priority.service.model.FairnessTestRunResults;
+import com.demo.priority.service.model.PriorityTestRunResults;
+import com.demo.priority.service.model.SimulationResults;
+import com.demo.priority.service.model.WorkflowConfig;
+import com.demo.priority.service.model.WorkflowSummary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Offline discrete-event simulation of a run started through /start-workflows.
+ *
+ * Models the activity task queue only: every workflow runs activitiesPerWorkflow sequential
+ * activities of a fixed duration, and a worker with a fixed number of executor slots pulls
+ * from a {@link SimulatedTaskQueue}. Workflow task latency and poll round trips are ignored,
+ * so the output is the dispatch order the server's priority/fairness rules would give with
+ * an idealised worker.
+ *
+ * Progress is kept as per-band, per-step completion counters updated in the event loop, so
+ * taking a sample costs O(bands x steps) regardless of how many workflows are simulated.
+ */
+public class DispatchSimulator {
+    public static final long DEFAULT_ACTIVITY_MILLIS = 300;
+    public static final long DEFAULT_SAMPLE_MILLIS = 1000;
+    // The sample interval is widened so a run never produces more samples than this.
+    static final int MAX_SAMPLES = 2000;
+
+    private final int executorSlots;
+    private final int activitiesPerWorkflow;
+    private final long activityMillis;
+    private final long sampleMillis;
+    private final Random random;
+
+    public DispatchSimulator(int executorSlots, int activitiesPerWorkflow, long activityMillis, long sampleMillis, long seed) {
+        if (executorSlots < 1) throw new IllegalArgumentException("executorSlots must be at least 1");
+        if (activitiesPerWorkflow < 1) throw new IllegalArgumentException("activitiesPerWorkflow must be at least 1");
+        if (activityMillis < 1) throw new IllegalArgumentException("activityMillis must be at least 1");
+        if (sampleMillis < 1) throw new IllegalArgumentException("sampleMillis must be at least 1");
+        this.executorSlots = executorSlots;
+        this.activitiesPerWorkflow = activitiesPerWorkflow;
+        this.activityMillis = activityMillis;
+        this.sampleMillis = sampleMillis;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Priority mode: workflow N gets priority ((N - 1) % 5) + 1 and no fairness key,
+     * matching PriorityRESTController.startWorkflows.
+     */
+    public SimulationResults<PriorityTestRunResults> simulatePriority(WorkflowConfig wfConfig) {
+        int total = Math.max(0, wfConfig.getNumberOfWorkflows());
+        Workload workload = new Workload(total, 5);
+        for (int workflowNum = 1; workflowNum < total + 1; workflowNum++) {
+            int priority = ((workflowNum - 1) % 5) + 1;
+            workload.add(priority, null, false, 0, priority - 1);
+        }
+        return run(workload, counts -> {
+            List<WorkflowSummary> summaries = new ArrayList<>(5);
+            for (int priority = 1; priority <= 5; priority++) {
+                WorkflowSummary summary = new WorkflowSummary();
+                summary.setWorkflowPriority(priority);
+                summary.setNumberOfWorkflows(workload.groupSize[priority - 1]);
+                summary.getActivities().addAll(activitySummaries(counts[priority - 1]));
+                summaries.add(summary);
+            }
+            return PriorityTestRunResults.fromSummaries(summaries, total);
+        });
+    }
+
+    /**
+     * Fairness mode: bands, per-band counts, shuffling and disableFairness behave as in
+     * PriorityRESTController.startWorkflows. The shuffle uses this simulator's seed.
+     */
+    public SimulationResults<FairnessTestRunResults> simulateFairness(WorkflowConfig wfConfig) {
+        List<Band> bands = wfConfig.getBands();
+        if (bands == null || bands.isEmpty()) {
+            bands = Band.defaultBands();
+        }
+        boolean disableFairness = wfConfig.isDisableFairness();
+
+        List<Band> submissionOrder = new ArrayList<>();
+        boolean hasCounts = bands.stream().anyMatch(b -> b.getCount() != null && b.getCount() > 0);
+        if (hasCounts) {
+            for (Band band : bands) {
+                int count = band.getCount() == null ? 0 : band.getCount();
+                for (int i = 0; i < count; i++) {
+                    submissionOrder.add(band);
+                }
+            }
+            Collections.shuffle(submissionOrder, random);
+        } else {
+            for (int workflowNum = 1; workflowNum < wfConfig.getNumberOfWorkflows() + 1; workflowNum++) {
+                submissionOrder.add(bands.get((workflowNum - 1) % bands.size()));
+            }
+        }
+
+        // Groups follow FairnessTestRunResults: one per key and reported weight.
+        Map<String, Integer> groupIndex = new LinkedHashMap<>();
+        List<FairnessSummary> groups = new ArrayList<>();
+        Workload workload = new Workload(submissionOrder.size(), bands.size());
+        for (Band band : submissionOrder) {
+            String key = band.getKey() == null ? "" : band.getKey();
+            // The FairnessWeight search attribute shows 0 when fairness is disabled.
+            long reportedWeight = disableFairness ? 0 : band.getWeight();
+            int group = groupIndex.computeIfAbsent(key + "|" + reportedWeight, k -> {
+                FairnessSummary summary = new FairnessSummary();
+                summary.setFairnessKey(key);
+                summary.setFairnessWeight((int) reportedWeight);
+                groups.add(summary);
+                return groups.size() - 1;
+            });
+            // No Priority on the activity when disabled: everything lands in one FIFO at the default level.
+            workload.add(0, key, !disableFairness, disableFairness ? 0 : band.getWeight(), group);
+        }
+        int total = submissionOrder.size();
+        return run(workload, counts -> {
+            List<FairnessSummary> summaries = new ArrayList<>(groups.size());
+            for (int group = 0; group < groups.size(); group++) {
+                FairnessSummary summary = new FairnessSummary();
+                summary.setFairnessKey(groups.get(group).getFairnessKey());
+                summary.setFairnessWeight(groups.get(group).getFairnessWeight());
+                summary.setNumberOfWorkflows(workload.groupSize[group]);
+                summary.getActivities().addAll(activitySummaries(counts[group]));
+                summaries.add(summary);
+            }
+            return FairnessTestRunResults.fromSummaries(summaries, total);
+        });
+    }
+
+    /**
+     * Same shape the results classes build from visibility: an entry for each step at least one
+     * workflow has completed, counting the workflows that got that far.
+     */
+    private static List<ActivitySummary> activitySummaries(long[] stepCounts) {
+        List<ActivitySummary> activities = new ArrayList<>(stepCounts.length);
+        for (int step = 0; step < stepCounts.length && stepCounts[step] > 0; step++) {
+            ActivitySummary activity = new ActivitySummary();
+            activity.setActivityNumber(step + 1);
+            activity.setNumberCompleted(stepCounts[step]);
+            activities.add(activity);
+        }
+        return activities;
+    }
+
+    /**
+     * Upper bound on run length: every round of activityMillis either keeps all executors busy
+     * (at most ceil(tasks / executors) such rounds) or advances every unfinished workflow by a
+     * step (at most steps such rounds).
+     */
+    long sampleIntervalFor(int workflows) {
+        long tasks = (long) workflows * activitiesPerWorkflow;
+        long rounds = (tasks + executorSlots - 1) / executorSlots + activitiesPerWorkflow;
+        long maxDuration = rounds * activityMillis;
+        // Samples at 0, interval, 2*interval ... plus the final one.
+        long widened = (maxDuration + MAX_SAMPLES - 3) / (MAX_SAMPLES - 2);
+        return Math.max(sampleMillis, widened);
+    }
+
+    private <T> SimulationResults<T> run(Workload workload, Function<long[][], T> sampler) {
+        int total = workload.size;
+        long interval = sampleIntervalFor(total);
+
+        SimulationResults<T> results = new SimulationResults<>();
+        results.setExecutorSlots(executorSlots);
+        results.setActivityDurationMillis(activityMillis);
+        results.setSampleIntervalMillis(interval);
+
+        int[] completed = new int[total];
+        // counts[group][step] = workflows in the group that have completed step + 1 activities.
+        long[][] counts = new long[workload.groupCount][activitiesPerWorkflow];
+        SimulatedTaskQueue queue = new SimulatedTaskQueue();
+        for (int wf = 0; wf < total; wf++) {
+            workload.enqueue(queue, wf);
+        }
+
+        // Every activity takes the same time, so completions leave in dispatch order and the
+        // in-flight set is a ring buffer no larger than the executor count.
+        long[] inFlightEnd = new long[executorSlots];
+        int[] inFlightWf = new int[executorSlots];
+        int head = 0;
+        int inFlight = 0;
+
+        long now = 0;
+        long nextSample = 0;
+        long dispatched = 0;
+        while (true) {
+            while (inFlight < executorSlots && !queue.isEmpty()) {
+                int slot = (head + inFlight) % executorSlots;
+                inFlightWf[slot] = queue.poll();
+                inFlightEnd[slot] = now + activityMillis;
+                inFlight++;
+                dispatched++;
+            }
+            if (inFlight == 0) break;
+
+            long nextCompletion = inFlightEnd[head];
+            while (nextSample < nextCompletion) {
+                results.getSamples().add(sampler.apply(counts));
+                results.getSampleTimesMillis().add(nextSample);
+                nextSample += interval;
+            }
+
+            now = nextCompletion;
+            while (inFlight > 0 && inFlightEnd[head] == now) {
+                int wf = inFlightWf[head];
+                head = (head + 1) % executorSlots;
+                inFlight--;
+                counts[workload.group[wf]][completed[wf]]++;
+                if (++completed[wf] < activitiesPerWorkflow) {
+                    workload.enqueue(queue, wf);
+                }
+            }
+        }
+        results.getSamples().add(sampler.apply(counts));
+        results.getSampleTimesMillis().add(now);
+        results.setSimulatedDurationMillis(now);
+        results.setTasksDispatched(dispatched);
+        return results;
+    }
+
+    /**
+     * Per-workflow dispatch attributes held in flat arrays, indexed by submission order.
+     */
+    private static class Workload {
+        private final int[] priority;
+        private final String[] fairnessKey;
+        // False when the activity carries no fairness key (priority mode, disableFairness).
+        private final boolean[] keyed;
+        private final float[] fairnessWeight;
+        // Reporting group (priority level or fairness band) and the number of workflows in each.
+        private final int[] group;
+        private final long[] groupSize;
+        private final int groupCount;
+        private int size;
+
+        Workload(int capacity, int maxGroups) {
+            priority = new int[capacity];
+            fairnessKey = new String[capacity];
+            keyed = new boolean[capacity];
+            fairnessWeight = new float[capacity];
+            group = new int[capacity];
+            groupSize = new long[maxGroups];
+            groupCount = maxGroups;
+        }
+
+        void add(int priorityKey, String key, boolean dispatchKeyed, float weight, int reportGroup) {
+            priority[size] = priorityKey;
+            fairnessKey[size] = key;
+            keyed[size] = dispatchKeyed;
+            fairnessWeight[size] = weight;
+            group[size] = reportGroup;
+            groupSize[reportGroup]++;
+            size++;
+        }
+
+        void enqueue(SimulatedTaskQueue queue, int wf) {
+            queue.add(wf, priority[wf], keyed[wf] ? fairnessKey[wf] : null, fairnessWeight[wf]);
+        }
+    }
+}
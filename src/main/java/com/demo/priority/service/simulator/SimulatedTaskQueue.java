@@ -0,0 +1,103 @@
+package com.demo.priority.service.simulator;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory model of a task queue backlog with priority and fairness.
+ *
+ * Tasks are drained strictly by priority level (1 is highest, 5 lowest; unset maps to 3),
+ * and within a level by fairness key using weighted fair queuing: every key carries a
+ * virtual "pass" that advances by 1/weight per dispatched task and the key with the lowest
+ * pass goes next. A key that goes idle and later returns is brought up to the level's
+ * current virtual time so it cannot bank credit while empty. Tasks within a key are FIFO.
+ */
+class SimulatedTaskQueue {
+    static final int MIN_PRIORITY_KEY = 1;
+    static final int MAX_PRIORITY_KEY = 5;
+    static final int DEFAULT_PRIORITY_KEY = 3;
+    static final float DEFAULT_FAIRNESS_WEIGHT = 1.0f;
+
+    private final PriorityLevel[] levels = new PriorityLevel[MAX_PRIORITY_KEY];
+    private int size;
+
+    SimulatedTaskQueue() {
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = new PriorityLevel();
+        }
+    }
+
+    /**
+     * @param task         opaque task id handed back by {@link #poll()}
+     * @param priorityKey  1..5, anything else is treated as the default (3)
+     * @param fairnessKey  null/empty puts the task in the level's unkeyed FIFO
+     * @param weight       fairness weight, values <= 0 are treated as 1.0
+     */
+    void add(int task, int priorityKey, String fairnessKey, float weight) {
+        if (priorityKey < MIN_PRIORITY_KEY || priorityKey > MAX_PRIORITY_KEY) {
+            priorityKey = DEFAULT_PRIORITY_KEY;
+        }
+        levels[priorityKey - 1].add(task, fairnessKey == null ? "" : fairnessKey,
+                weight > 0 ? weight : DEFAULT_FAIRNESS_WEIGHT);
+        size++;
+    }
+
+    /**
+     * @return the next task to dispatch, or -1 if the backlog is empty
+     */
+    int poll() {
+        if (size == 0) return -1;
+        for (PriorityLevel level : levels) {
+            if (!level.active.isEmpty()) {
+                size--;
+                return level.poll();
+            }
+        }
+        return -1;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static class PriorityLevel {
+        private final Map<String, FairnessKeyQueue> keys = new HashMap<>();
+        private final PriorityQueue<FairnessKeyQueue> active = new PriorityQueue<>(
+                (a, b) -> a.pass != b.pass ? Double.compare(a.pass, b.pass) : Long.compare(a.activatedSeq, b.activatedSeq));
+        private double virtualTime;
+        private long activationSeq;
+
+        void add(int task, String fairnessKey, float weight) {
+            FairnessKeyQueue key = keys.computeIfAbsent(fairnessKey, k -> new FairnessKeyQueue());
+            key.weight = weight;
+            if (key.tasks.isEmpty()) {
+                key.pass = Math.max(key.pass, virtualTime);
+                key.activatedSeq = activationSeq++;
+                key.tasks.add(task);
+                active.add(key);
+            } else {
+                key.tasks.add(task);
+            }
+        }
+
+        int poll() {
+            FairnessKeyQueue key = active.poll();
+            int task = key.tasks.poll();
+            virtualTime = key.pass;
+            key.pass += 1.0 / key.weight;
+            if (!key.tasks.isEmpty()) {
+                active.add(key);
+            }
+            return task;
+        }
+    }
+
+    private static class FairnessKeyQueue {
+        private final ArrayDeque<Integer> tasks = new ArrayDeque<>();
+        private double pass;
+        private float weight = DEFAULT_FAIRNESS_WEIGHT;
+        private long activatedSeq;
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.priority.service.tracing;
+
+import com.demo.priority.service.model.FairnessActivityData;
+import com.demo.priority.service.model.FairnessWorkflowData;
+import com.demo.priority.service.model.PriorityActivityData;
+import com.demo.priority.service.model.PriorityWorkflowData;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * Tags a span with the band a workflow or activity belongs to, read from its input, so
+ * traces can be grouped by priority or fairness key.
+ */
+public final class BandAttributes {
+    public static final AttributeKey<Long> PRIORITY = AttributeKey.longKey("demo.priority");
+    public static final AttributeKey<String> FAIRNESS_KEY = AttributeKey.stringKey("demo.fairness.key");
+    public static final AttributeKey<Long> FAIRNESS_WEIGHT = AttributeKey.longKey("demo.fairness.weight");
+    public static final AttributeKey<Boolean> FAIRNESS_DISABLED = AttributeKey.booleanKey("demo.fairness.disabled");
+    public static final AttributeKey<Long> ACTIVITY_STEP = AttributeKey.longKey("demo.activity.step");
+    public static final AttributeKey<Long> SCHEDULE_TO_START_MS = AttributeKey.longKey("demo.activity.schedule_to_start_ms");
+
+    private BandAttributes() {
+    }
+
+    static void apply(Span span, Object[] arguments) {
+        if (arguments == null || !span.getSpanContext().isValid()) return;
+        for (Object argument : arguments) {
+            if (argument instanceof PriorityWorkflowData data) {
+                span.setAttribute(PRIORITY, (long) data.getPriority());
+            } else if (argument instanceof PriorityActivityData data) {
+                span.setAttribute(PRIORITY, (long) data.getPriority());
+                span.setAttribute(ACTIVITY_STEP, (long) data.getStepNumber());
+            } else if (argument instanceof FairnessWorkflowData data) {
+                span.setAttribute(FAIRNESS_KEY, data.getFairnessKey());
+                span.setAttribute(FAIRNESS_WEIGHT, (long) data.getFairnessWeight());
+                span.setAttribute(FAIRNESS_DISABLED, data.isDisableFairness());
+            } else if (argument instanceof FairnessActivityData data) {
+                span.setAttribute(FAIRNESS_KEY, data.getFairnessKey());
+                span.setAttribute(FAIRNESS_WEIGHT, (long) data.getFairnessWeight());
+                span.setAttribute(ACTIVITY_STEP, (long) data.getStepNumber());
+            }
+        }
+    }
+}
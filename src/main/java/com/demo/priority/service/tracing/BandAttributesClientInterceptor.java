@@ -0,0 +1,23 @@
+package com.demo.priority.service.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.temporal.common.interceptors.WorkflowClientCallsInterceptor;
+import io.temporal.common.interceptors.WorkflowClientCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkflowClientInterceptorBase;
+
+/**
+ * Client-side counterpart of BandAttributesWorkerInterceptor: tags the StartWorkflow span.
+ */
+public class BandAttributesClientInterceptor extends WorkflowClientInterceptorBase {
+
+    @Override
+    public WorkflowClientCallsInterceptor workflowClientCallsInterceptor(WorkflowClientCallsInterceptor next) {
+        return new WorkflowClientCallsInterceptorBase(next) {
+            @Override
+            public WorkflowStartOutput start(WorkflowStartInput input) {
+                BandAttributes.apply(Span.current(), input.getArguments());
+                return super.start(input);
+            }
+        };
+    }
+}
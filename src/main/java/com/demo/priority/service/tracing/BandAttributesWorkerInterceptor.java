@@ -0,0 +1,57 @@
+package com.demo.priority.service.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.temporal.activity.ActivityExecutionContext;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptor;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkerInterceptorBase;
+import io.temporal.common.interceptors.WorkflowInboundCallsInterceptor;
+import io.temporal.common.interceptors.WorkflowInboundCallsInterceptorBase;
+import io.temporal.workflow.Workflow;
+
+/**
+ * Adds band attributes to the RunWorkflow / RunActivity spans opened by the OpenTracing
+ * interceptor. Must sit inside that interceptor (earlier in the interceptor list) so its
+ * span is current when these run. Activity spans also get schedule-to-start latency, which
+ * is the task queue dispatch time for that band.
+ */
+public class BandAttributesWorkerInterceptor extends WorkerInterceptorBase {
+
+    @Override
+    public WorkflowInboundCallsInterceptor interceptWorkflow(WorkflowInboundCallsInterceptor next) {
+        return new WorkflowInboundCallsInterceptorBase(next) {
+            @Override
+            public WorkflowOutput execute(WorkflowInput input) {
+                // Only tag the first execution; replays don't produce new spans worth annotating.
+                if (!Workflow.isReplaying()) {
+                    BandAttributes.apply(Span.current(), input.getArguments());
+                }
+                return super.execute(input);
+            }
+        };
+    }
+
+    @Override
+    public ActivityInboundCallsInterceptor interceptActivity(ActivityInboundCallsInterceptor next) {
+        return new ActivityInboundCallsInterceptorBase(next) {
+            private ActivityExecutionContext context;
+
+            @Override
+            public void init(ActivityExecutionContext context) {
+                this.context = context;
+                super.init(context);
+            }
+
+            @Override
+            public ActivityOutput execute(ActivityInput input) {
+                Span span = Span.current();
+                BandAttributes.apply(span, input.getArguments());
+                if (context != null && span.getSpanContext().isValid()) {
+                    long scheduled = context.getInfo().getCurrentAttemptScheduledTimestamp();
+                    span.setAttribute(BandAttributes.SCHEDULE_TO_START_MS, System.currentTimeMillis() - scheduled);
+                }
+                return super.execute(input);
+            }
+        };
+    }
+}
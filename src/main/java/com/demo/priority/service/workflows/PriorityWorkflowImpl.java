@@ -3,42 +3,35 @@ package com.demo.priority.service.workflows;
 import com.demo.priority.service.activities.PriorityActivity;
 import com.demo.priority.service.model.PriorityActivityData;
 import com.demo.priority.service.model.PriorityWorkflowData;
-import io.temporal.activity.ActivityOptions;
-import io.temporal.common.Priority;
+import com.demo.priority.service.model.WorkflowRunSettings;
 import io.temporal.common.SearchAttributeKey;
-import io.temporal.spring.boot.WorkflowImpl;
-import io.temporal.spring.boot.autoconfigure.properties.TemporalProperties;
-import io.temporal.spring.boot.autoconfigure.properties.WorkerProperties;
 import io.temporal.workflow.Workflow;
 import io.temporal.workflow.WorkflowMethod;
-import org.springframework.beans.BeansException;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
 
-import java.time.Duration;
-import java.util.Optional;
+/**
+ * Created per execution by WorkflowRegistration; see {@link WorkflowSettings} for how settings are pinned.
+ */
+public class PriorityWorkflowImpl implements PriorityWorkflow {
+    private final WorkflowSettings settings;
 
-@WorkflowImpl
-public class PriorityWorkflowImpl implements PriorityWorkflow, ApplicationContextAware {
-    private static ApplicationContext ctx;
+    public PriorityWorkflowImpl(WorkflowSettings settings) {
+        this.settings = settings;
+    }
 
     @Override
     @WorkflowMethod
     public String priorityWorkflow(PriorityWorkflowData pData) {
+        WorkflowRunSettings runSettings = settings.pinPriorityRunSettings();
 
         PriorityActivity activity = Workflow.newActivityStub(
                 PriorityActivity.class,
-                ActivityOptions.newBuilder()
-                        .setStartToCloseTimeout(Duration.ofSeconds(5))
-                        .setTaskQueue(this.getActivityTaskQueueName())
-                        .setPriority(Priority.newBuilder().setPriorityKey(pData.getPriority()).build())
-                        .build()
+                settings.priorityActivityOptions(runSettings, pData.getPriority())
         );
 
         PriorityActivityData activityData = new PriorityActivityData();
         activityData.setPriority(pData.getPriority());
 
-        for (int counter = 1; counter <= 5; counter++)
+        for (int counter = 1; counter <= runSettings.getActivitiesPerWorkflow(); counter++)
         {
             activityData.setStepNumber(counter);
             activityData = activity.runActivity(activityData);
@@ -47,16 +40,4 @@ public class PriorityWorkflowImpl implements PriorityWorkflow, ApplicationContex
         }
         return "Complete";
     }
-    private String getActivityTaskQueueName()
-    {
-        // Parse the config to pick out the task queue for the activity. (Will be simpler once issue #1647 implemented)
-        TemporalProperties props = ctx.getBean(TemporalProperties.class);
-        Optional<WorkerProperties> wp =
-                props.getWorkers().stream().filter(w -> w.getName().equals("PriorityActivity")).findFirst();
-        return wp.get().getTaskQueue();
-    }
-    @Override
-    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
-        ctx = applicationContext;
-    }
 }
@@ -0,0 +1,112 @@
+package com.demo.priority.service.workflows;
+
+import com.demo.priority.service.config.DemoProperties;
+import com.demo.priority.service.model.WorkflowRunSettings;
+import io.temporal.activity.ActivityOptions;
+import io.temporal.common.Priority;
+import io.temporal.workflow.Functions;
+import io.temporal.workflow.Workflow;
+
+import java.time.Duration;
+
+/**
+ * Worker-side workflow configuration, resolved once when the worker starts and handed to
+ * the workflow implementation factories.
+ *
+ * This is the worker's current configuration, not what an execution runs with: each
+ * workflow pins a {@link WorkflowRunSettings} copy in its history on first run and passes
+ * it back here, so replays after a config change see the original values. Executions started
+ * before pinning existed (no PIN_RUN_SETTINGS marker in history) get the values that code had
+ * hard-coded. ActivityOptions for the current configuration are built up front and reused
+ * whenever the pinned values match it, which is the normal case.
+ */
+public final class WorkflowSettings {
+    static final String PIN_RUN_SETTINGS = "pin-run-settings";
+    private static final int LEGACY_ACTIVITIES_PER_WORKFLOW = 5;
+    private static final long LEGACY_START_TO_CLOSE_MILLIS = 5_000;
+    private static final String LEGACY_PRIORITY_ACTIVITY_QUEUE = "PriorityActivityTQ";
+    private static final String LEGACY_FAIRNESS_QUEUE = "fairness-queue";
+    private static final int LEGACY_DEFAULT_PRIORITY = 3;
+
+    private final WorkflowRunSettings priority;
+    private final WorkflowRunSettings fairness;
+    private final ActivityOptions[] priorityActivityOptions;
+    private final ActivityOptions fairnessActivityOptions;
+
+    public WorkflowSettings(DemoProperties properties) {
+        DemoProperties.Workflow workflow = properties.workflow();
+        int defaultPriority = workflow.defaultPriority();
+        if (defaultPriority < 1 || defaultPriority > 5) {
+            throw new IllegalArgumentException("demo.workflow.default-priority must be 1..5, was " + defaultPriority);
+        }
+        long timeoutMillis = workflow.activityStartToCloseTimeout().toMillis();
+        this.priority = new WorkflowRunSettings(workflow.activitiesPerWorkflow(),
+                properties.taskQueues().priorityActivity(), timeoutMillis, defaultPriority);
+        this.fairness = new WorkflowRunSettings(workflow.activitiesPerWorkflow(),
+                properties.taskQueues().fairness(), timeoutMillis, defaultPriority);
+
+        // One set of options per priority key 1..5.
+        this.priorityActivityOptions = new ActivityOptions[5];
+        for (int priorityKey = 1; priorityKey <= 5; priorityKey++) {
+            priorityActivityOptions[priorityKey - 1] = buildPriorityOptions(priority, priorityKey);
+        }
+        this.fairnessActivityOptions = baseOptions(fairness).build();
+    }
+
+    /**
+     * The settings this priority execution runs with. Must be called from the workflow method.
+     */
+    public WorkflowRunSettings pinPriorityRunSettings() {
+        return pin(() -> copy(priority), LEGACY_PRIORITY_ACTIVITY_QUEUE);
+    }
+
+    /**
+     * The settings this fairness execution runs with. Must be called from the workflow method.
+     */
+    public WorkflowRunSettings pinFairnessRunSettings() {
+        return pin(() -> copy(fairness), LEGACY_FAIRNESS_QUEUE);
+    }
+
+    private static WorkflowRunSettings pin(Functions.Func<WorkflowRunSettings> current, String legacyQueue) {
+        if (Workflow.getVersion(PIN_RUN_SETTINGS, Workflow.DEFAULT_VERSION, 1) == Workflow.DEFAULT_VERSION) {
+            return new WorkflowRunSettings(LEGACY_ACTIVITIES_PER_WORKFLOW, legacyQueue,
+                    LEGACY_START_TO_CLOSE_MILLIS, LEGACY_DEFAULT_PRIORITY);
+        }
+        return Workflow.sideEffect(WorkflowRunSettings.class, current);
+    }
+
+    public ActivityOptions priorityActivityOptions(WorkflowRunSettings pinned, int priorityKey) {
+        if (priorityKey < 1 || priorityKey > 5) priorityKey = pinned.getDefaultPriority();
+        if (pinned.equals(priority)) return priorityActivityOptions[priorityKey - 1];
+        return buildPriorityOptions(pinned, priorityKey);
+    }
+
+    public ActivityOptions fairnessActivityOptions(WorkflowRunSettings pinned, String fairnessKey,
+                                                   int fairnessWeight, boolean disableFairness) {
+        ActivityOptions base = pinned.equals(fairness) ? fairnessActivityOptions : baseOptions(pinned).build();
+        if (disableFairness) return base;
+        return ActivityOptions.newBuilder(base)
+                .setPriority(Priority.newBuilder()
+                        .setFairnessKey(fairnessKey)
+                        .setFairnessWeight((float) fairnessWeight)
+                        .build())
+                .build();
+    }
+
+    private static ActivityOptions buildPriorityOptions(WorkflowRunSettings settings, int priorityKey) {
+        return baseOptions(settings)
+                .setPriority(Priority.newBuilder().setPriorityKey(priorityKey).build())
+                .build();
+    }
+
+    private static ActivityOptions.Builder baseOptions(WorkflowRunSettings settings) {
+        return ActivityOptions.newBuilder()
+                .setStartToCloseTimeout(Duration.ofMillis(settings.getActivityStartToCloseTimeoutMillis()))
+                .setTaskQueue(settings.getActivityTaskQueue());
+    }
+
+    private static WorkflowRunSettings copy(WorkflowRunSettings settings) {
+        return new WorkflowRunSettings(settings.getActivitiesPerWorkflow(), settings.getActivityTaskQueue(),
+                settings.getActivityStartToCloseTimeoutMillis(), settings.getDefaultPriority());
+    }
+}
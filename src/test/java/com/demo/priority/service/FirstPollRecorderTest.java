@@ -0,0 +1,62 @@
+package com.demo.priority.service;
+
+import com.demo.priority.service.config.DemoProperties;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.MethodDescriptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FirstPollRecorderTest {
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final FirstPollRecorder recorder = new FirstPollRecorder(properties(), registry);
+
+	@Test
+	void ignoresCallsThatAreNotPolls() {
+		recorder.interceptCall(WorkflowServiceGrpc.getGetSystemInfoMethod(), CallOptions.DEFAULT, channel());
+		recorder.interceptCall(WorkflowServiceGrpc.getStartWorkflowExecutionMethod(), CallOptions.DEFAULT, channel());
+
+		assertEquals(-1, recorder.getFirstPollMillis());
+		assertNull(registry.find("demo.startup.first.poll").timeGauge());
+	}
+
+	@Test
+	void recordsOnlyTheFirstPoll() throws Exception {
+		recorder.interceptCall(WorkflowServiceGrpc.getPollActivityTaskQueueMethod(), CallOptions.DEFAULT, channel());
+		long first = recorder.getFirstPollMillis();
+		Thread.sleep(20);
+		recorder.interceptCall(WorkflowServiceGrpc.getPollWorkflowTaskQueueMethod(), CallOptions.DEFAULT, channel());
+
+		assertTrue(first > 0);
+		assertEquals(first, recorder.getFirstPollMillis());
+		assertEquals(first, registry.get("demo.startup.first.poll").tag("role", "all").timeGauge().value(TimeUnit.MILLISECONDS));
+	}
+
+	private static Channel channel() {
+		return new Channel() {
+			@Override
+			public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method, CallOptions options) {
+				return null;
+			}
+
+			@Override
+			public String authority() {
+				return "test";
+			}
+		};
+	}
+
+	private static DemoProperties properties() {
+		return new DemoProperties("all", true,
+				new DemoProperties.TaskQueues("PriorityWorkflowTQ", "PriorityActivityTQ", "fairness-queue"),
+				new DemoProperties.Workflow(Duration.ofSeconds(5), 5, 5, 3),
+				new DemoProperties.Tracing("none", "http://localhost:4317", "./traces.jsonl"));
+	}
+}
@@ -0,0 +1,94 @@
+package com.demo.priority.service;
+
+import io.temporal.serviceclient.WorkflowServiceStubs;
+import io.temporal.worker.Worker;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the context for each worker role without starting the workers, so workflow
+ * registration and the role's worker list are checked without a Temporal server.
+ */
+class WorkerRoleContextTests {
+
+	@Nested
+	@SpringBootTest(properties = {"demo.role=all", "demo.start-workers=false"})
+	class All {
+		@Autowired
+		@Qualifier("temporalWorkers")
+		Collection<Worker> workers;
+		@Autowired
+		WorkflowServiceStubs serviceStubs;
+		@Autowired
+		FirstPollRecorder firstPollRecorder;
+
+		@Test
+		void createsEveryWorker() {
+			assertEquals(Set.of("PriorityWorkflowTQ", "PriorityActivityTQ", "fairness-queue"), taskQueues(workers));
+		}
+
+		@Test
+		void recordsFirstPollOnTheServiceStubs() {
+			assertTrue(serviceStubs.getOptions().getGrpcClientInterceptors().contains(firstPollRecorder));
+		}
+	}
+
+	@Nested
+	@SpringBootTest(properties = {"demo.role=priority-worker", "demo.start-workers=false"})
+	class PriorityWorker {
+		@Autowired
+		@Qualifier("temporalWorkers")
+		Collection<Worker> workers;
+
+		@Test
+		void createsOnlyThePriorityWorkers() {
+			assertEquals(Set.of("PriorityWorkflowTQ", "PriorityActivityTQ"), taskQueues(workers));
+		}
+	}
+
+	@Nested
+	@SpringBootTest(properties = {"demo.role=fairness-worker", "demo.start-workers=false"})
+	class FairnessWorker {
+		@Autowired
+		@Qualifier("temporalWorkers")
+		Collection<Worker> workers;
+
+		@Test
+		void createsOnlyTheFairnessWorker() {
+			assertEquals(Set.of("fairness-queue"), taskQueues(workers));
+		}
+	}
+
+	@Nested
+	@SpringBootTest(properties = "demo.role=api-only")
+	class ApiOnly {
+		@Test
+		void loadsWithoutStartingWorkers() {
+		}
+	}
+
+	@Test
+	void unknownRoleFailsStartup() {
+		SpringApplicationBuilder app = new SpringApplicationBuilder(PriorityServiceApplication.class);
+		Throwable failure = assertThrows(Exception.class,
+				() -> app.run("--demo.role=fairnes-worker", "--demo.start-workers=false", "--server.port=0"));
+		while (failure.getCause() != null) failure = failure.getCause();
+		assertTrue(failure.getMessage().startsWith("demo.role must be one of"), failure.getMessage());
+	}
+
+	private static Set<String> taskQueues(Collection<Worker> workers) {
+		return workers.stream().map(Worker::getTaskQueue).collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,52 @@
+package com.demo.priority.service.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestRunResultsTest {
+
+	@Test
+	void priorityResultsFromProgressCountWorkflowsAndSteps() {
+		List<WorkflowProgress> progress = List.of(
+				new WorkflowProgress(1, null, 0, 5),
+				new WorkflowProgress(1, null, 0, 2),
+				new WorkflowProgress(3, null, 0, 0));
+
+		PriorityTestRunResults results = PriorityTestRunResults.fromProgress(progress);
+
+		assertEquals(3, results.getTotalWorkflowsInTest());
+		List<WorkflowSummary> byPriority = new ArrayList<>(results.getWorkflowsByPriority());
+		assertEquals(5, byPriority.size(), "all five priorities are always reported");
+		assertEquals(2, byPriority.get(0).getNumberOfWorkflows());
+		List<ActivitySummary> activities = new ArrayList<>(byPriority.get(0).getActivities());
+		assertEquals(5, activities.size());
+		assertEquals(2, activities.get(0).getNumberCompleted());
+		assertEquals(1, activities.get(4).getNumberCompleted());
+		assertEquals(1, byPriority.get(2).getNumberOfWorkflows());
+		assertTrue(byPriority.get(2).getActivities().isEmpty());
+	}
+
+	@Test
+	void fairnessResultsFromProgressGroupByKeyAndWeightHeaviestFirst() {
+		List<WorkflowProgress> progress = List.of(
+				new WorkflowProgress(0, "economy-class", 1, 1),
+				new WorkflowProgress(0, "first-class", 15, 3),
+				new WorkflowProgress(0, null, 0, 0),
+				new WorkflowProgress(0, "first-class", 15, 1));
+
+		FairnessTestRunResults results = FairnessTestRunResults.fromProgress(progress);
+
+		assertEquals(4, results.getTotalWorkflowsInTest());
+		List<FairnessSummary> bands = new ArrayList<>(results.getWorkflowsByFairness());
+		assertEquals(List.of("first-class", "economy-class", ""), bands.stream().map(FairnessSummary::getFairnessKey).toList());
+		assertEquals(2, bands.get(0).getNumberOfWorkflows());
+		List<ActivitySummary> activities = new ArrayList<>(bands.get(0).getActivities());
+		assertEquals(3, activities.size());
+		assertEquals(2, activities.get(0).getNumberCompleted());
+		assertEquals(1, activities.get(2).getNumberCompleted());
+	}
+}
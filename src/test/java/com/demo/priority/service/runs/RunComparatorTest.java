@@ -0,0 +1,86 @@
+package com.demo.priority.service.runs;
+
+import com.demo.priority.service.model.BandComparison;
+import com.demo.priority.service.model.BandStats;
+import com.demo.priority.service.model.RunComparison;
+import com.demo.priority.service.model.RunSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunComparatorTest {
+
+	@Test
+	void slowerBandWithEnoughSamplesIsFlagged() {
+		RunSummary baseline = run("base", 0.0, band("priority-1", 100, 1_000, 100, null));
+		RunSummary candidate = run("cand", 0.0, band("priority-1", 100, 1_200, 100, null));
+
+		RunComparison comparison = RunComparator.compare(baseline, candidate);
+
+		BandComparison band = comparison.getBands().get(0);
+		assertTrue(band.isLatencyRegression());
+		assertEquals(198.0, band.getWelchDegreesOfFreedom(), 1e-9);
+		assertTrue(band.getLatencyPValue() < RunComparator.LATENCY_ALPHA);
+		assertEquals(1, comparison.getRegressions().size());
+	}
+
+	@Test
+	void largeButNoisyLatencyChangeIsNotFlagged() {
+		// 20% slower, but three workflows per band with a wide spread is not evidence of anything.
+		RunSummary baseline = run("base", 0.0, band("priority-1", 3, 1_000, 500, null));
+		RunSummary candidate = run("cand", 0.0, band("priority-1", 3, 1_200, 500, null));
+
+		RunComparison comparison = RunComparator.compare(baseline, candidate);
+
+		BandComparison band = comparison.getBands().get(0);
+		assertEquals(20.0, band.getMeanChangePct(), 1e-9);
+		assertTrue(band.getLatencyPValue() > RunComparator.LATENCY_ALPHA);
+		assertFalse(band.isLatencyRegression());
+		assertTrue(comparison.getRegressions().isEmpty());
+	}
+
+	@Test
+	void shiftedFairnessSplitIsFlagged() {
+		RunSummary baseline = run("base", 0.0, band("a", 100, 1_000, 100, 75), band("b", 100, 1_000, 100, 25));
+		RunSummary candidate = run("cand", 0.25, band("a", 100, 1_000, 100, 50), band("b", 100, 1_000, 100, 50));
+
+		RunComparison comparison = RunComparator.compare(baseline, candidate);
+
+		assertEquals(40.0 / 3, comparison.getFairnessChiSquare(), 1e-9);
+		assertTrue(comparison.getFairnessPValue() < RunComparator.FAIRNESS_ALPHA);
+		assertTrue(comparison.isFairnessRegression());
+	}
+
+	@Test
+	void fairnessShiftOnAHandfulOfCompletionsIsNotFlagged() {
+		RunSummary baseline = run("base", 0.0, band("a", 100, 1_000, 100, 3), band("b", 100, 1_000, 100, 1));
+		RunSummary candidate = run("cand", 0.25, band("a", 100, 1_000, 100, 2), band("b", 100, 1_000, 100, 2));
+
+		RunComparison comparison = RunComparator.compare(baseline, candidate);
+
+		assertEquals(0.25, comparison.getFairnessDeviationChange(), 1e-9);
+		assertTrue(comparison.getFairnessPValue() > RunComparator.FAIRNESS_ALPHA);
+		assertFalse(comparison.isFairnessRegression());
+	}
+
+	private static RunSummary run(String prefix, Double fairnessDeviation, BandStats... bands) {
+		RunSummary summary = new RunSummary();
+		summary.setRunPrefix(prefix);
+		summary.setCompleted(true);
+		summary.setFairnessDeviation(fairnessDeviation);
+		summary.setBands(List.of(bands));
+		return summary;
+	}
+
+	private static BandStats band(String name, int count, double mean, double stdDev, Integer windowCompletions) {
+		BandStats band = new BandStats();
+		band.setBand(name);
+		band.setCount(count);
+		band.setMeanMillis(mean);
+		band.setStdDevMillis(stdDev);
+		band.setWindowCompletions(windowCompletions);
+		return band;
+	}
+}
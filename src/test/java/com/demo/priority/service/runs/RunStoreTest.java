@@ -0,0 +1,72 @@
+package com.demo.priority.service.runs;
+
+import com.demo.priority.service.config.DemoProperties;
+import com.demo.priority.service.model.RunSummary;
+import com.demo.priority.service.model.WorkflowConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunStoreTest {
+	private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	void prefixesThatSanitiseAlikeKeepSeparateSummaries(@TempDir Path directory) {
+		RunStore store = store(directory);
+
+		store.recordStart(config("run/1", 10), "priority");
+		store.recordStart(config("run_1", 20), "priority");
+		store.recordStart(config("Run_1", 30), "priority");
+
+		assertEquals(10, store.find("run/1").orElseThrow().getConfig().getNumberOfWorkflows());
+		assertEquals(20, store.find("run_1").orElseThrow().getConfig().getNumberOfWorkflows());
+		assertEquals(30, store.find("Run_1").orElseThrow().getConfig().getNumberOfWorkflows());
+		assertEquals(3, store.findAll().size());
+	}
+
+	@Test
+	void readsSummariesWrittenUnderTheOldFileName(@TempDir Path directory) throws Exception {
+		RunSummary summary = new RunSummary();
+		summary.setRunPrefix("run/1");
+		summary.setMode("priority");
+		mapper.writeValue(directory.resolve("run_1.json").toFile(), summary);
+		RunStore store = store(directory);
+
+		assertTrue(store.find("run/1").isPresent());
+		assertFalse(store.find("run_1").isPresent(), "old file belongs to run/1, not run_1");
+	}
+
+	@Test
+	void longPrefixesStillGetAUsableFileName(@TempDir Path directory) throws Exception {
+		RunStore store = store(directory);
+		String prefix = "x".repeat(500);
+
+		store.recordStart(config(prefix, 10), "priority");
+
+		assertTrue(store.find(prefix).isPresent());
+		try (var files = Files.list(directory)) {
+			assertTrue(files.allMatch(f -> f.getFileName().toString().length() < 255));
+		}
+	}
+
+	private RunStore store(Path directory) {
+		DemoProperties properties = new DemoProperties("all", true,
+				new DemoProperties.TaskQueues("PriorityWorkflowTQ", "PriorityActivityTQ", "fairness-queue"),
+				new DemoProperties.Workflow(Duration.ofSeconds(5), 5, 5, 3),
+				new DemoProperties.Tracing("none", "http://localhost:4317", "./traces.jsonl"));
+		return new RunStore(directory.toString(), mapper, properties);
+	}
+
+	private static WorkflowConfig config(String prefix, int workflows) {
+		WorkflowConfig config = new WorkflowConfig();
+		config.setWorkflowIdPrefix(prefix);
+		config.setNumberOfWorkflows(workflows);
+		return config;
+	}
+}
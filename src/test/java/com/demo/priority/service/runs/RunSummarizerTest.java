@@ -0,0 +1,95 @@
+package com.demo.priority.service.runs;
+
+import com.demo.priority.service.model.Band;
+import com.demo.priority.service.model.BandStats;
+import com.demo.priority.service.model.RunSummary;
+import com.demo.priority.service.model.WorkflowConfig;
+import com.demo.priority.service.runs.RunSummarizer.Execution;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunSummarizerTest {
+
+	@Test
+	void percentileOfASingleCompletionIsThatCompletion() {
+		long[] sorted = {42};
+		assertEquals(42, RunSummarizer.percentile(sorted, 50));
+		assertEquals(42, RunSummarizer.percentile(sorted, 90));
+		assertEquals(42, RunSummarizer.percentile(sorted, 99));
+	}
+
+	@Test
+	void percentileUsesNearestRank() {
+		long[] sorted = {10, 20, 30, 40};
+		assertEquals(20, RunSummarizer.percentile(sorted, 50));
+		assertEquals(40, RunSummarizer.percentile(sorted, 90));
+	}
+
+	@Test
+	void allClosedNeedsAtLeastOneExecutionAndNoneRunning() {
+		assertFalse(RunSummarizer.allClosed(List.of()));
+		assertFalse(RunSummarizer.allClosed(List.of(
+				new Execution(1L, null, null, 0, 100L),
+				new Execution(2L, null, null, 0, null))));
+		assertTrue(RunSummarizer.allClosed(List.of(
+				new Execution(1L, null, null, 0, 100L),
+				new Execution(2L, null, null, 0, 200L))));
+	}
+
+	@Test
+	void fairnessSummaryCountsCompletionsInsideTheWindow() {
+		RunSummary summary = fairnessRun("a", 3, "b", 1);
+		List<Execution> executions = List.of(
+				new Execution(null, "a", 3L, 1_000, 1_100L),
+				new Execution(null, "a", 3L, 1_000, 1_200L),
+				new Execution(null, "a", 3L, 1_000, 1_300L),
+				new Execution(null, "b", 1L, 1_000, 1_150L));
+
+		RunSummarizer.summarise(summary, executions);
+
+		assertTrue(summary.isCompleted());
+		assertEquals(4, summary.getTotalWorkflows());
+		assertEquals(300, summary.getDurationMillis());
+		BandStats a = summary.getBands().get(0);
+		assertEquals("a", a.getBand());
+		assertEquals(3, a.getCount());
+		assertEquals(200.0, a.getMeanMillis(), 1e-9);
+		assertEquals(200, a.getP50Millis());
+		// The window closes when b finishes at 150ms: one completion each against a 3:1 target.
+		assertEquals(1, a.getWindowCompletions());
+		assertEquals(1, summary.getBands().get(1).getWindowCompletions());
+		assertEquals(0.25, summary.getFairnessDeviation(), 1e-9);
+	}
+
+	@Test
+	void priorityRunHasNoFairnessDeviation() {
+		RunSummary summary = new RunSummary();
+		summary.setMode("priority");
+
+		RunSummarizer.summarise(summary, List.of(new Execution(1L, null, null, 0, 50L)));
+
+		assertEquals("priority-1", summary.getBands().get(0).getBand());
+		assertNull(summary.getBands().get(0).getWindowCompletions());
+		assertNull(summary.getFairnessDeviation());
+	}
+
+	static RunSummary fairnessRun(String key1, int weight1, String key2, int weight2) {
+		WorkflowConfig config = new WorkflowConfig();
+		config.setMode("fairness");
+		config.setBands(List.of(band(key1, weight1), band(key2, weight2)));
+		RunSummary summary = new RunSummary();
+		summary.setMode("fairness");
+		summary.setConfig(config);
+		return summary;
+	}
+
+	private static Band band(String key, int weight) {
+		Band band = new Band();
+		band.setKey(key);
+		band.setWeight(weight);
+		return band;
+	}
+}
@@ -0,0 +1,90 @@
+package com.demo.priority.service.simulator;
+
+import com.demo.priority.service.model.ActivitySummary;
+import com.demo.priority.service.model.FairnessSummary;
+import com.demo.priority.service.model.FairnessTestRunResults;
+import com.demo.priority.service.model.PriorityTestRunResults;
+import com.demo.priority.service.model.SimulationResults;
+import com.demo.priority.service.model.WorkflowConfig;
+import com.demo.priority.service.model.WorkflowSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchSimulatorTest {
+
+	@Test
+	void priorityRunCompletesEveryActivityAndFavoursPriorityOne() {
+		WorkflowConfig config = new WorkflowConfig();
+		config.setNumberOfWorkflows(100);
+
+		SimulationResults<PriorityTestRunResults> results = new DispatchSimulator(5, 5, 300, 1000, 0).simulatePriority(config);
+
+		assertEquals(500, results.getTasksDispatched());
+		// 500 tasks over 5 slots at 300ms each with no idle time.
+		assertEquals(30_000, results.getSimulatedDurationMillis());
+
+		List<WorkflowSummary> finalSample = new ArrayList<>(results.getSamples().get(results.getSamples().size() - 1).getWorkflowsByPriority());
+		for (WorkflowSummary summary : finalSample) {
+			assertEquals(20, summary.getNumberOfWorkflows());
+			assertEquals(5, summary.getActivities().size());
+			summary.getActivities().forEach(a -> assertEquals(20, a.getNumberCompleted()));
+		}
+
+		List<WorkflowSummary> midRun = new ArrayList<>(results.getSamples().get(10).getWorkflowsByPriority());
+		assertTrue(completed(midRun.get(0).getActivities()) > completed(midRun.get(4).getActivities()));
+	}
+
+	@Test
+	void fairnessRunSplitsProgressByWeight() {
+		WorkflowConfig config = new WorkflowConfig();
+		config.setNumberOfWorkflows(300);
+
+		SimulationResults<FairnessTestRunResults> results = new DispatchSimulator(5, 5, 300, 1000, 0).simulateFairness(config);
+
+		// 10s in, every band still has work queued.
+		List<FairnessSummary> midRun = new ArrayList<>(results.getSamples().get(10).getWorkflowsByFairness());
+		assertEquals("first-class", midRun.get(0).getFairnessKey());
+		long first = completed(midRun.get(0).getActivities());
+		long business = completed(midRun.get(1).getActivities());
+		long economy = completed(midRun.get(2).getActivities());
+		assertEquals(3.0, (double) first / business, 0.3);
+		assertEquals(5.0, (double) business / economy, 1.0);
+	}
+
+	@Test
+	void runLengthFollowsConfiguredExecutorsAndSteps() {
+		WorkflowConfig config = new WorkflowConfig();
+		config.setNumberOfWorkflows(100);
+
+		SimulationResults<PriorityTestRunResults> results = new DispatchSimulator(10, 3, 300, 1000, 0).simulatePriority(config);
+
+		assertEquals(300, results.getTasksDispatched());
+		// 300 tasks over 10 slots at 300ms each.
+		assertEquals(9_000, results.getSimulatedDurationMillis());
+		List<WorkflowSummary> finalSample = new ArrayList<>(results.getSamples().get(results.getSamples().size() - 1).getWorkflowsByPriority());
+		finalSample.forEach(summary -> assertEquals(3, summary.getActivities().size()));
+	}
+
+	@Test
+	void samplesSpanTheWholeRunOnLongRuns() {
+		WorkflowConfig config = new WorkflowConfig();
+		config.setNumberOfWorkflows(10_000);
+
+		SimulationResults<PriorityTestRunResults> results = new DispatchSimulator(5, 5, 300, 1000, 0).simulatePriority(config);
+
+		assertTrue(results.getSamples().size() <= DispatchSimulator.MAX_SAMPLES);
+		assertTrue(results.getSampleIntervalMillis() > 1000, "interval is widened");
+		assertEquals(results.getSamples().size(), results.getSampleTimesMillis().size());
+		List<Long> times = results.getSampleTimesMillis();
+		assertEquals(results.getSimulatedDurationMillis(), times.get(times.size() - 1));
+		assertTrue(times.get(times.size() - 2) >= results.getSimulatedDurationMillis() - results.getSampleIntervalMillis());
+	}
+
+	private static long completed(java.util.Collection<ActivitySummary> activities) {
+		return activities.stream().mapToLong(ActivitySummary::getNumberCompleted).sum();
+	}
+}
@@ -0,0 +1,82 @@
+package com.demo.priority.service.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatedTaskQueueTest {
+
+	@Test
+	void weightedKeysShareDispatchByWeight() {
+		SimulatedTaskQueue queue = new SimulatedTaskQueue();
+		for (int i = 0; i < 200; i++) {
+			queue.add(i, 0, "first-class", 15);
+			queue.add(1000 + i, 0, "business-class", 5);
+			queue.add(2000 + i, 0, "economy-class", 1);
+		}
+
+		int[] dispatched = new int[3];
+		for (int i = 0; i < 105; i++) {
+			dispatched[queue.poll() / 1000]++;
+		}
+		// 105 dispatches split 15:5:1 is 75:25:5.
+		assertEquals(75, dispatched[0], 2);
+		assertEquals(25, dispatched[1], 2);
+		assertEquals(5, dispatched[2], 2);
+	}
+
+	@Test
+	void higherPriorityDrainsFirst() {
+		SimulatedTaskQueue queue = new SimulatedTaskQueue();
+		for (int i = 0; i < 10; i++) {
+			queue.add(200 + i, 2, null, 0);
+		}
+		for (int i = 0; i < 10; i++) {
+			queue.add(100 + i, 1, null, 0);
+		}
+
+		for (int i = 0; i < 10; i++) {
+			assertEquals(100 + i, queue.poll(), "priority 1 is FIFO and goes before priority 2");
+		}
+		for (int i = 0; i < 10; i++) {
+			assertEquals(200 + i, queue.poll());
+		}
+		assertTrue(queue.isEmpty());
+		assertEquals(-1, queue.poll());
+	}
+
+	@Test
+	void unsetPriorityUsesDefaultLevel() {
+		SimulatedTaskQueue queue = new SimulatedTaskQueue();
+		queue.add(4, 4, null, 0);
+		queue.add(0, 0, null, 0);
+		queue.add(2, 2, null, 0);
+
+		assertEquals(2, queue.poll());
+		assertEquals(0, queue.poll(), "unset priority behaves as 3");
+		assertEquals(4, queue.poll());
+	}
+
+	@Test
+	void idleKeyCannotBankCredit() {
+		SimulatedTaskQueue queue = new SimulatedTaskQueue();
+		queue.add(100, 0, "b", 1);
+		for (int i = 0; i < 50; i++) {
+			queue.add(i, 0, "a", 1);
+		}
+		// "b" gets its one task, then "a" runs alone for a while.
+		for (int i = 0; i < 42; i++) {
+			queue.poll();
+		}
+		for (int i = 0; i < 10; i++) {
+			queue.add(101 + i, 0, "b", 1);
+		}
+
+		int bDispatched = 0;
+		for (int i = 0; i < 10; i++) {
+			if (queue.poll() >= 100) bDispatched++;
+		}
+		// Equal weights alternate; a returning key must not get a burst for the time it was idle.
+		assertTrue(bDispatched <= 6, "b dispatched " + bDispatched + " of 10");
+	}
+}
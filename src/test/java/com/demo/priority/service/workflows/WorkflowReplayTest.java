@@ -0,0 +1,103 @@
+package com.demo.priority.service.workflows;
+
+import com.demo.priority.service.activities.FairnessActivity;
+import com.demo.priority.service.activities.PriorityActivity;
+import com.demo.priority.service.config.DemoProperties;
+import com.demo.priority.service.model.FairnessWorkflowData;
+import com.demo.priority.service.model.PriorityWorkflowData;
+import io.temporal.api.enums.v1.IndexedValueType;
+import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowOptions;
+import io.temporal.common.WorkflowExecutionHistory;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.testing.WorkflowReplayer;
+import io.temporal.worker.Worker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Histories under test resources were recorded with the workflow code from before run settings
+ * were pinned (five steps, 5s timeout, fixed queue names). They must keep replaying whatever
+ * demo.workflow says now.
+ */
+class WorkflowReplayTest {
+	private TestWorkflowEnvironment env;
+
+	@BeforeEach
+	void setUp() {
+		env = TestWorkflowEnvironment.newInstance();
+		env.registerSearchAttribute("ActivitiesCompleted", IndexedValueType.INDEXED_VALUE_TYPE_INT);
+	}
+
+	@AfterEach
+	void tearDown() {
+		env.close();
+	}
+
+	@Test
+	void priorityHistoryFromBeforePinningReplays() throws Exception {
+		WorkflowSettings settings = settings(3, Duration.ofSeconds(10));
+		Worker worker = env.newWorker("PriorityWorkflowTQ");
+		worker.registerWorkflowImplementationFactory(PriorityWorkflow.class, () -> new PriorityWorkflowImpl(settings));
+
+		WorkflowReplayer.replayWorkflowExecutionFromResource("histories/priority-workflow-before-pinning.json", worker);
+	}
+
+	@Test
+	void fairnessHistoryFromBeforePinningReplays() throws Exception {
+		WorkflowSettings settings = settings(3, Duration.ofSeconds(10));
+		Worker worker = env.newWorker("fairness-queue");
+		worker.registerWorkflowImplementationFactory(FairnessWorkflow.class, () -> new FairnessWorkflowImpl(settings));
+
+		WorkflowReplayer.replayWorkflowExecutionFromResource("histories/fairness-workflow-before-pinning.json", worker);
+	}
+
+	@Test
+	void pinnedRunReplaysAfterConfigChange() throws Exception {
+		WorkflowSettings started = settings(3, Duration.ofSeconds(5));
+		Worker worker = env.newWorker("PriorityWorkflowTQ");
+		worker.registerWorkflowImplementationFactory(PriorityWorkflow.class, () -> new PriorityWorkflowImpl(started));
+		Worker fairness = env.newWorker("fairness-queue");
+		fairness.registerWorkflowImplementationFactory(FairnessWorkflow.class, () -> new FairnessWorkflowImpl(started));
+		fairness.registerActivitiesImplementations((FairnessActivity) data -> data);
+		env.newWorker("PriorityActivityTQ").registerActivitiesImplementations((PriorityActivity) data -> data);
+		env.start();
+		WorkflowClient client = env.getWorkflowClient();
+
+		PriorityWorkflowData priorityData = new PriorityWorkflowData();
+		priorityData.setPriority(1);
+		client.newWorkflowStub(PriorityWorkflow.class, WorkflowOptions.newBuilder()
+				.setTaskQueue("PriorityWorkflowTQ").setWorkflowId("pinned-priority").build())
+				.priorityWorkflow(priorityData);
+		FairnessWorkflowData fairnessData = new FairnessWorkflowData();
+		fairnessData.setFairnessKey("economy-class");
+		fairnessData.setFairnessWeight(1);
+		client.newWorkflowStub(FairnessWorkflow.class, WorkflowOptions.newBuilder()
+				.setTaskQueue("fairness-queue").setWorkflowId("pinned-fairness").build())
+				.fairnessWorkflow(fairnessData);
+
+		WorkflowExecutionHistory priorityHistory = client.fetchHistory("pinned-priority");
+		WorkflowExecutionHistory fairnessHistory = client.fetchHistory("pinned-fairness");
+
+		// A redeploy with more steps and a longer timeout must not change what these runs replay.
+		WorkflowSettings redeployed = settings(5, Duration.ofSeconds(30));
+		try (TestWorkflowEnvironment replayEnv = TestWorkflowEnvironment.newInstance()) {
+			Worker replayPriority = replayEnv.newWorker("PriorityWorkflowTQ");
+			replayPriority.registerWorkflowImplementationFactory(PriorityWorkflow.class, () -> new PriorityWorkflowImpl(redeployed));
+			WorkflowReplayer.replayWorkflowExecution(priorityHistory, replayPriority);
+			Worker replayFairness = replayEnv.newWorker("fairness-queue");
+			replayFairness.registerWorkflowImplementationFactory(FairnessWorkflow.class, () -> new FairnessWorkflowImpl(redeployed));
+			WorkflowReplayer.replayWorkflowExecution(fairnessHistory, replayFairness);
+		}
+	}
+
+	private static WorkflowSettings settings(int activitiesPerWorkflow, Duration timeout) {
+		return new WorkflowSettings(new DemoProperties("all", true,
+				new DemoProperties.TaskQueues("PriorityWorkflowTQ", "PriorityActivityTQ", "fairness-queue"),
+				new DemoProperties.Workflow(timeout, activitiesPerWorkflow, 5, 3),
+				new DemoProperties.Tracing("none", "http://localhost:4317", "./traces.jsonl")));
+	}
+}
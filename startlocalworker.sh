@@ -3,5 +3,8 @@
 # Script to start the worker to run the workflows and activities using a locally running
 # temporal server
 #
-./mvnw spring-boot:run -f ./pom.xml
+# Optionally pass a worker role (api-only, priority-worker, fairness-worker) to only
+# start the workers that node is assigned.  Defaults to running everything.
+#
+WORKER_ROLE=${1:-all} ./mvnw spring-boot:run -f ./pom.xml
 